@@ -0,0 +1,49 @@
+// User-defined package.
+package com.chessTestProject.benchmarks;
+
+// Imported user-defined classes.
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.pgn.FenUtilities;
+
+/**
+ * Enum of the positions the benchmarks run on: middlegames with many pieces and moves, endgames with few,
+ * and two positions that hold the special moves, an en passant capture and a promotion.
+ * @version 1.0.
+ * @since 10-19-2026.
+ */
+public enum BenchmarkPosition {
+	
+	START("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1"),
+	MIDDLEGAME_OPEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"),
+	MIDDLEGAME_CLOSED("r1bq1rk1/pp2bppp/2n1pn2/2pp4/2PP4/2N1PN2/PP2BPPP/R2QKB1R w KQ - 0 8"),
+	MIDDLEGAME_TACTICAL("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10"),
+	ENDGAME_ROOK("8/5pk1/6p1/R7/5P2/6PK/r7/8 w - - 0 40"),
+	ENDGAME_PAWN("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"),
+	ENDGAME_KING_PAWN("8/8/4k3/3p4/3K4/4P3/8/8 w - - 0 50"),
+	EN_PASSANT("rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3"),
+	PROMOTION("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8");
+	
+	// Declare member variables.
+	private final String fen;
+	
+	// Constructor.
+	BenchmarkPosition(final String fen) {
+		this.fen = fen;
+	}
+	
+	/**
+	 * Method that returns the position in Forsyth-Edwards Notation.
+	 * @return String the FEN of the position.
+	 */
+	public String getFen() {
+		return this.fen;
+	}
+	
+	/**
+	 * Method that creates the board of the position.
+	 * @return Board the board of the position.
+	 */
+	public Board createBoard() {
+		return FenUtilities.createGameFromFEN(this.fen);
+	}
+}
@@ -0,0 +1,66 @@
+// User-defined package.
+package com.chessTestProject.benchmarks;
+
+// Imported user-defined classes.
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.player.MoveTransition;
+
+// Imported built-in classes.
+import java.util.concurrent.TimeUnit;
+
+// Imported JMH classes.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class that benchmarks building the standard board and making a move, which builds the board after the move
+ * and checks that the own king is not left in check. Every call makes the next legal move of the position in turn,
+ * so the score is the average over all moves.
+ * @version 1.0.
+ * @since 10-19-2026.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BoardBenchmark {
+	
+	// Declare member variables.
+	@Param({"START", "MIDDLEGAME_OPEN", "MIDDLEGAME_CLOSED", "MIDDLEGAME_TACTICAL", "ENDGAME_ROOK", "ENDGAME_PAWN", "ENDGAME_KING_PAWN"})
+	private BenchmarkPosition position;
+	private Board board;
+	private Move[] moves;
+	private int nextMove;
+	
+	@Setup
+	public void setUp() {
+		this.board = this.position.createBoard();
+		this.moves = this.board.currentPlayer().getLegalMoves().toArray(new Move[0]);
+		this.nextMove = 0;
+	}
+	
+	@Benchmark
+	public Board createStandardBoard() {
+		return Board.createStandardBoard();
+	}
+	
+	@Benchmark
+	public MoveTransition makeMove() {
+		// Declare and initialize local variables.
+		final Move move = this.moves[this.nextMove];
+		this.nextMove = (this.nextMove + 1) % this.moves.length;
+		return this.board.currentPlayer().makeMove(move);
+	}
+}
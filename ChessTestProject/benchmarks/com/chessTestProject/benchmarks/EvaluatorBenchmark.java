@@ -0,0 +1,55 @@
+// User-defined package.
+package com.chessTestProject.benchmarks;
+
+// Imported user-defined classes.
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.player.ai.StandardBoardEvaluator;
+
+// Imported built-in classes.
+import java.util.concurrent.TimeUnit;
+
+// Imported JMH classes.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class that benchmarks the standard evaluation. The board is evaluated over and over, so the answer to whether
+ * the players have any legal moves, which every board remembers, is only computed in the first call, as in a search
+ * that evaluates a board after asking it for checkmate.
+ * @version 1.0.
+ * @since 10-19-2026.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EvaluatorBenchmark {
+	
+	// Declare member variables.
+	@Param({"START", "MIDDLEGAME_OPEN", "MIDDLEGAME_CLOSED", "MIDDLEGAME_TACTICAL", "ENDGAME_ROOK", "ENDGAME_PAWN", "ENDGAME_KING_PAWN"})
+	private BenchmarkPosition position;
+	private Board board;
+	private StandardBoardEvaluator boardEvaluator;
+	
+	@Setup
+	public void setUp() {
+		this.board = this.position.createBoard();
+		this.boardEvaluator = new StandardBoardEvaluator();
+	}
+	
+	@Benchmark
+	public int evaluate() {
+		return this.boardEvaluator.evaluate(this.board, 0);
+	}
+}
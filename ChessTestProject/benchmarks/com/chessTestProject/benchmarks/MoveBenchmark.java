@@ -0,0 +1,67 @@
+// User-defined package.
+package com.chessTestProject.benchmarks;
+
+// Imported user-defined classes.
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+
+// Imported built-in classes.
+import java.util.concurrent.TimeUnit;
+
+// Imported JMH classes.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class that benchmarks executing a move of every kind. The move is the first one of the wanted kind found
+ * in the benchmark positions, so every kind runs on a position where it is legal.
+ * @version 1.0.
+ * @since 10-19-2026.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MoveBenchmark {
+	
+	// Declare member variables.
+	@Param({"MajorMove", "MajorAttackMove", "PawnMove", "PawnJump", "PawnAttackMove", "PawnEnPassantAttackMove", 
+			"PawnPromotion", "KingSideCastleMove", "QueenSideCastleMove"})
+	private String moveType;
+	private Move move;
+	
+	@Setup
+	public void setUp() {
+		this.move = findMove(this.moveType);
+	}
+	
+	@Benchmark
+	public Board execute() {
+		return this.move.execute();
+	}
+	
+	/**
+	 * Helper method that returns the first legal move of the given class in the benchmark positions.
+	 */
+	private static Move findMove(final String moveType) {
+		for(final BenchmarkPosition position : BenchmarkPosition.values()) {
+			for(final Move move : position.createBoard().currentPlayer().getLegalMoves()) {
+				if(move.getClass().getSimpleName().equals(moveType)) {
+					return move;
+				}
+			}
+		}
+		throw new IllegalArgumentException("No benchmark position has a " + moveType + "!");
+	}
+}
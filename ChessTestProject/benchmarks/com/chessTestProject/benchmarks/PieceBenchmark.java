@@ -0,0 +1,72 @@
+// User-defined package.
+package com.chessTestProject.benchmarks;
+
+// Imported user-defined classes.
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.pieces.Piece;
+
+// Imported built-in classes.
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Imported JMH classes.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Class that benchmarks the move generation of every piece type, over all pieces of that type of both players.
+ * Only the middlegame positions are used, the endgames lack most piece types.
+ * @version 1.0.
+ * @since 10-19-2026.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PieceBenchmark {
+	
+	// Declare member variables.
+	@Param({"MIDDLEGAME_OPEN", "MIDDLEGAME_CLOSED", "MIDDLEGAME_TACTICAL"})
+	private BenchmarkPosition position;
+	@Param({"PAWN", "KNIGHT", "BISHOP", "ROOK", "QUEEN", "KING"})
+	private Piece.PieceType pieceType;
+	private Board board;
+	private Piece[] pieces;
+	
+	@Setup
+	public void setUp() {
+		// Declare and initialize local variables.
+		final List<Piece> pieces = new ArrayList<>();
+		this.board = this.position.createBoard();
+		for(final Collection<Piece> playerPieces : Arrays.asList(this.board.getWhitePieces(), this.board.getBlackPieces())) {
+			for(final Piece piece : playerPieces) {
+				if(piece.getPieceType() == this.pieceType) {
+					pieces.add(piece);
+				}
+			}
+		}
+		this.pieces = pieces.toArray(new Piece[0]);
+	}
+	
+	@Benchmark
+	public void calculateLegalMoves(final Blackhole blackhole) {
+		for(final Piece piece : this.pieces) {
+			blackhole.consume(piece.calculateLegalMoves(this.board));
+		}
+	}
+}
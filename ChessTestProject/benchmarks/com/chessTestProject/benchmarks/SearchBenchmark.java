@@ -0,0 +1,63 @@
+// User-defined package.
+package com.chessTestProject.benchmarks;
+
+// Imported user-defined classes.
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.player.ai.MiniMax;
+
+// Imported built-in classes.
+import java.util.concurrent.TimeUnit;
+
+// Imported JMH classes.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class that benchmarks a full search at a fixed depth. The transposition table and move ordering history are
+ * cleared before every search, otherwise each search would start from what the previous one learned.
+ * @version 1.0.
+ * @since 10-19-2026.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class SearchBenchmark {
+	
+	// Declare member variables.
+	@Param({"MIDDLEGAME_OPEN", "MIDDLEGAME_CLOSED", "MIDDLEGAME_TACTICAL", "ENDGAME_ROOK", "ENDGAME_PAWN", "ENDGAME_KING_PAWN"})
+	private BenchmarkPosition position;
+	@Param({"2", "3"})
+	private int depth;
+	private Board board;
+	private MiniMax miniMax;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.board = this.position.createBoard();
+		this.miniMax = new MiniMax(this.depth);
+	}
+	
+	@Setup(Level.Invocation)
+	public void newGame() {
+		this.miniMax.newGame();
+	}
+	
+	@Benchmark
+	public Move execute() {
+		return this.miniMax.execute(this.board);
+	}
+}
@@ -0,0 +1,156 @@
+// User-defined package.
+package com.chessTestProject.bench;
+
+// Imported user-defined classes.
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.player.ai.MiniMax;
+import com.chessTestProject.engine.player.ai.MoveStrategy;
+import com.chessTestProject.pgn.FenUtilities;
+
+// Imported built-in classes.
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Class that measures how many bytes the engine allocates per search node, per move execution and per simulated move,
+ * on the bench positions. The bytes are read from the allocation counter the JVM keeps for every thread, so only
+ * the allocations of the calling thread are counted and engines that search on other threads are not supported.
+ * Every measurement is made twice and the second one is returned, the first lets the JIT compiler remove the
+ * allocations it can prove do not escape, as it does in a real game.
+ * @version 1.0.
+ * @since 10-19-2026.
+ */
+public class AllocationProfiler {
+	
+	// Declare and initialize constant member variables.
+	private static final int DEFAULT_DEPTH = 3;
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+	
+	// Constructor.
+	private AllocationProfiler() {
+		throw new RuntimeException("You cannot instantiate me!");
+	}
+	
+	/**
+	 * Method that checks if the JVM counts the bytes allocated by every thread.
+	 * @return boolean true if allocations can be measured, false otherwise.
+	 */
+	public static boolean isSupported() {
+		return THREAD_MX_BEAN != null && THREAD_MX_BEAN.isThreadAllocatedMemorySupported() && THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled();
+	}
+	
+	/**
+	 * Method that returns the bytes allocated by the calling thread since it started.
+	 * @return long the number of bytes.
+	 */
+	public static long getAllocatedBytes() {
+		return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+	
+	/**
+	 * Method that searches the bench positions and divides the bytes allocated by the searches by the nodes they visited.
+	 * @param Supplier<MoveStrategy> engines a supplier of new engines searching to a fixed depth, one per measurement.
+	 * @return double the average number of bytes per node.
+	 */
+	public static double bytesPerNode(final Supplier<MoveStrategy> engines) {
+		measureBytesPerNode(engines.get());
+		return measureBytesPerNode(engines.get());
+	}
+	
+	/**
+	 * Method that executes every legal move of the bench positions, which builds the board after the move.
+	 * @return double the average number of bytes per execution.
+	 */
+	public static double bytesPerExecute() {
+		// Declare and initialize local variables.
+		final List<Move> moves = createMoves();
+		measureBytesPerExecute(moves);
+		return measureBytesPerExecute(moves);
+	}
+	
+	/**
+	 * Method that makes every legal move of the bench positions, which builds the board after the move and checks
+	 * that the king of the player moving is not left in check.
+	 * @return double the average number of bytes per simulated move.
+	 */
+	public static double bytesPerMakeMove() {
+		// Declare and initialize local variables.
+		final List<Move> moves = createMoves();
+		measureBytesPerMakeMove(moves);
+		return measureBytesPerMakeMove(moves);
+	}
+	
+	/**
+	 * Method that prints the allocations of the engine the game plays with.
+	 * @param String[] args optionally the search depth.
+	 */
+	public static void main(final String[] args) {
+		if(!isSupported()) {
+			System.out.println("This JVM does not count the bytes allocated per thread.");
+			return;
+		}
+		// Declare and initialize local variables.
+		final int depth = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_DEPTH;
+		final double bytesPerNode = bytesPerNode(() -> MiniMax.createStandardEngine(depth));
+		System.out.printf("%nBytes/node (depth %d) : %.0f%nBytes/execute        : %.0f%nBytes/makeMove       : %.0f%n", 
+				depth, bytesPerNode, bytesPerExecute(), bytesPerMakeMove());
+	}
+	
+	/**
+	 * Helper method that measures the bytes per node of a single engine over all bench positions.
+	 */
+	private static double measureBytesPerNode(final MoveStrategy moveStrategy) {
+		// Declare and initialize local variables.
+		long bytes = 0L;
+		long nodes = 0L;
+		for(final String fen : Bench.POSITIONS) {
+			final Board board = FenUtilities.createGameFromFEN(fen);
+			final long start = getAllocatedBytes();
+			moveStrategy.execute(board);
+			bytes += getAllocatedBytes() - start;
+			nodes += moveStrategy.getNumNodes();
+		}
+		return (double) bytes / nodes;
+	}
+	
+	private static double measureBytesPerExecute(final List<Move> moves) {
+		// Declare and initialize local variables.
+		final long start = getAllocatedBytes();
+		for(final Move move : moves) {
+			move.execute();
+		}
+		return (double) (getAllocatedBytes() - start) / moves.size();
+	}
+	
+	private static double measureBytesPerMakeMove(final List<Move> moves) {
+		// Declare and initialize local variables.
+		final long start = getAllocatedBytes();
+		for(final Move move : moves) {
+			move.getBoard().currentPlayer().makeMove(move);
+		}
+		return (double) (getAllocatedBytes() - start) / moves.size();
+	}
+	
+	/**
+	 * Helper method that collects the legal moves of all bench positions.
+	 */
+	private static List<Move> createMoves() {
+		// Declare and initialize local variables.
+		final List<Move> moves = new ArrayList<>();
+		for(final String fen : Bench.POSITIONS) {
+			moves.addAll(FenUtilities.createGameFromFEN(fen).currentPlayer().getLegalMoves());
+		}
+		return moves;
+	}
+	
+	/**
+	 * Helper method that returns the thread bean of the JVM if it counts allocations, null otherwise.
+	 */
+	private static com.sun.management.ThreadMXBean threadMXBean() {
+		return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean ? 
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean() : null;
+	}
+}
@@ -40,6 +40,8 @@ public class Board {
 	private final Player currentPlayer;
 	private final Pawn enPassantPawn;
 	private final Move transitionMove;
+	private final long zobristHash;
+	private final long pawnZobristHash;
 	
 	// Constructor.
 	private Board(final Builder builder) {
@@ -58,6 +60,8 @@ public class Board {
 		this.blackPlayer = new BlackPlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
 		this.currentPlayer = builder.nextMoveMaker.choosePlayer(this.whitePlayer, this.blackPlayer);
 		this.transitionMove = builder.transitionMove != null ? builder.transitionMove : MoveFactory.getNullMove();
+		this.zobristHash = Zobrist.hash(this);
+		this.pawnZobristHash = Zobrist.pawnHash(this);
 	}
 	
 	/**
@@ -128,6 +132,22 @@ public class Board {
 		return this.transitionMove;
 	}
 	
+	/**
+	 * Method that returns the Zobrist hash of this board, which identifies the position and the player to move.
+	 * @return long zobristHash the Zobrist hash of this board.
+	 */
+	public long getZobristHash() {
+		return this.zobristHash;
+	}
+	
+	/**
+	 * Method that returns the Zobrist hash of only the pawns on this board, which identifies the pawn structure.
+	 * @return long pawnZobristHash the pawn-only Zobrist hash of this board.
+	 */
+	public long getPawnZobristHash() {
+		return this.pawnZobristHash;
+	}
+	
 	/**
 	 * Method that returns an ArrayList with all the legal moves that every piece on the board can make.
 	 * @return ArrayList<Move> allLegalMoves an ArrayList of all the legal moves that can be made in the current state of the board. 
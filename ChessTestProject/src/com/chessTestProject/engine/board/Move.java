@@ -462,7 +462,7 @@ public abstract class Move {
 	 * @version 1.0.
 	 * @since 02-23-2021.
 	 */
-	static abstract class CastleMove extends Move {
+	public static abstract class CastleMove extends Move {
 		// Declare member variables.
 		protected final Rook castleRook;
 		protected final int castleRookStart;
@@ -491,6 +491,22 @@ public abstract class Move {
 			return this.castleRook;
 		}
 		
+		/**
+		 * Method that returns the coordinate the rook starts the castling move from.
+		 * @return int the coordinate of the rook before castling.
+		 */
+		public int getCastleRookStart() {
+			return this.castleRookStart;
+		}
+		
+		/**
+		 * Method that returns the coordinate the rook ends up on after the castling move.
+		 * @return int the coordinate of the rook after castling.
+		 */
+		public int getCastleRookDestination() {
+			return this.castleRookDestination;
+		}
+		
 		/**
 		 * Overridden method that returns a boolean true by default.
 		 * @return boolean true.
@@ -0,0 +1,120 @@
+// User-defined package.
+package com.chessTestProject.engine.board;
+
+// Imported user-defined classes.
+import com.chessTestProject.engine.Alliance;
+import com.chessTestProject.engine.pieces.Piece;
+
+// Imported built-in classes.
+import java.util.Random;
+
+/**
+ * Class that calculates the Zobrist hash of a board, a 64-bit key that identifies a position.
+ * @version 1.0.
+ * @since 10-19-2026.
+ */
+public class Zobrist {
+	// Declare and initialize member constant variables.
+	private static final long SEED = 0x5EED_C4E55L;
+	private static final int NUM_PIECE_TYPES = Piece.PieceType.values().length;
+	
+	private static final Random RANDOM = new Random(SEED);
+	private static final long[][][] PIECE_KEYS = initPieceKeys();
+	private static final long[][] UNMOVED_KEYS = initSquareKeys(2);
+	private static final long[] EN_PASSANT_KEYS = initSquareKeys(1)[0];
+	private static final long BLACK_TO_MOVE_KEY = RANDOM.nextLong();
+	
+	// Constructor.
+	private Zobrist() {
+		throw new RuntimeException("You cannot instantiate me!");
+	}
+	
+	/**
+	 * Method that creates a random key for every combination of alliance, piece type and tile.
+	 * @return long[][][] the keys indexed by alliance, piece type and tile coordinate.
+	 */
+	private static long[][][] initPieceKeys() {
+		final long[][][] keys = new long[2][NUM_PIECE_TYPES][BoardUtils.NUM_TILES];
+		for(int alliance = 0; alliance < 2; alliance++) {
+			for(int pieceType = 0; pieceType < NUM_PIECE_TYPES; pieceType++) {
+				for(int i = 0; i < BoardUtils.NUM_TILES; i++) {
+					keys[alliance][pieceType][i] = RANDOM.nextLong();
+				}
+			}
+		}
+		return keys;
+	}
+	
+	/**
+	 * Method that creates the given number of rows of random keys, one key per tile.
+	 * @param int numRows the number of rows to create.
+	 * @return long[][] the keys indexed by row and tile coordinate.
+	 */
+	private static long[][] initSquareKeys(final int numRows) {
+		final long[][] keys = new long[numRows][BoardUtils.NUM_TILES];
+		for(int row = 0; row < numRows; row++) {
+			for(int i = 0; i < BoardUtils.NUM_TILES; i++) {
+				keys[row][i] = RANDOM.nextLong();
+			}
+		}
+		return keys;
+	}
+	
+	/**
+	 * Method that returns the key of a single piece on its current tile.
+	 * Kings and rooks that have not moved yet get an extra key, because they still carry the right to castle.
+	 * @param Piece piece the piece to get the key of.
+	 * @return long the key of the piece.
+	 */
+	public static long pieceKey(final Piece piece) {
+		final int alliance = piece.getPieceAlliance().isWhite() ? 0 : 1;
+		long key = PIECE_KEYS[alliance][piece.getPieceType().ordinal()][piece.getPiecePosition()];
+		if(piece.isFirstMove() && (piece.getPieceType().isKing() || piece.getPieceType().isRook())) {
+			key ^= UNMOVED_KEYS[alliance][piece.getPiecePosition()];
+		}
+		return key;
+	}
+	
+	/**
+	 * Method that calculates the Zobrist hash of the given board from scratch.
+	 * @param Board board the board to calculate the hash of.
+	 * @return long the Zobrist hash of the board.
+	 */
+	public static long hash(final Board board) {
+		long key = 0L;
+		for(final Piece piece : board.getWhitePieces()) {
+			key ^= pieceKey(piece);
+		}
+		for(final Piece piece : board.getBlackPieces()) {
+			key ^= pieceKey(piece);
+		}
+		if(board.getEnPassantPawn() != null) {
+			key ^= EN_PASSANT_KEYS[board.getEnPassantPawn().getPiecePosition()];
+		}
+		if(board.currentPlayer().getAlliance() == Alliance.BLACK) {
+			key ^= BLACK_TO_MOVE_KEY;
+		}
+		return key;
+	}
+	
+	/**
+	 * Method that calculates the Zobrist hash of only the pawns on the given board.
+	 * Boards with the same pawn structure share this key, whatever the other pieces and the player to move are.
+	 * @param Board board the board to calculate the pawn hash of.
+	 * @return long the pawn-only Zobrist hash of the board.
+	 */
+	public static long pawnHash(final Board board) {
+		long key = 0L;
+		for(final Piece piece : board.getWhitePieces()) {
+			if(piece.getPieceType() == Piece.PieceType.PAWN) {
+				key ^= pieceKey(piece);
+			}
+		}
+		for(final Piece piece : board.getBlackPieces()) {
+			if(piece.getPieceType() == Piece.PieceType.PAWN) {
+				key ^= pieceKey(piece);
+			}
+		}
+		return key;
+	}
+}
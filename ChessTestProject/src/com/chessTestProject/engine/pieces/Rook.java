@@ -81,7 +81,7 @@ public class Rook extends Piece {
 	 */
 	@Override
 	public Rook movePiece(Move move) {
-		return new Rook(move.getMovedPiece().getPieceAlliance(), move.getDestinationCoordinate());
+		return new Rook(move.getMovedPiece().getPieceAlliance(), move.getDestinationCoordinate(), false);
 	}
 
 	/**
@@ -78,6 +78,8 @@ public class BlackPlayer extends Player {
 				if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
 					if(Player.calculateAttacksOnTile(5, opponentsLegals).isEmpty() &&
 						Player.calculateAttacksOnTile(6, opponentsLegals).isEmpty() &&
+						!KingSafety.isAttackedByPawn(this.board, 6, getAlliance()) &&
+						!KingSafety.isAttackedByPawn(this.board, 5, getAlliance()) &&
 						rookTile.getPiece().getPieceType().isRook()) {
 					kingCastles.add(new Move.KingSideCastleMove(this.board,
 																this.playerKing,
@@ -96,7 +98,9 @@ public class BlackPlayer extends Player {
 				
 				if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove() &&
 					Player.calculateAttacksOnTile(2,  opponentsLegals).isEmpty() &&
+					!KingSafety.isAttackedByPawn(this.board, 2, getAlliance()) &&
 					Player.calculateAttacksOnTile(3,  opponentsLegals).isEmpty() &&
+					!KingSafety.isAttackedByPawn(this.board, 3, getAlliance()) &&
 					rookTile.getPiece().getPieceType().isRook()) {
 					kingCastles.add(new Move.QueenSideCastleMove(this.board,
 																	this.playerKing,
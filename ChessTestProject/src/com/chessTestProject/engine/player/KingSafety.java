@@ -0,0 +1,161 @@
+// User-defined package.
+package com.chessTestProject.engine.player;
+
+// Imported user-defined classes.
+import com.chessTestProject.engine.Alliance;
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.BoardUtils;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.pieces.Piece;
+
+/**
+ * Class that tests whether a move leaves the own king attacked without building the board after the move.
+ * The move is applied to a virtual board that only knows which tile was left, which tile was entered and which tile was captured on.
+ * @version 1.0.
+ * @since 10-19-2026.
+ */
+final class KingSafety {
+	// Declare and initialize member constant variables.
+	private static final int ROWS = BoardUtils.NUM_TILES_PER_ROW;
+	private static final int[][] ORTHOGONAL_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+	private static final int[][] DIAGONAL_DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+	private static final int[][] KNIGHT_OFFSETS = {{-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}};
+	
+	// Constructor.
+	private KingSafety() {
+		throw new RuntimeException("You cannot instantiate me!");
+	}
+	
+	/**
+	 * Method that checks if the given move of the given alliance keeps its king out of check.
+	 * Castling moves are not supported, their path is already checked when they are generated.
+	 * @param Board board the board the move is made on.
+	 * @param Move move the move that is going to get checked.
+	 * @param int kingPosition the position coordinate of the king before the move.
+	 * @param Alliance alliance the alliance of the player making the move.
+	 * @return boolean true if the king is not attacked after the move, false otherwise.
+	 */
+	static boolean isKingSafeAfter(final Board board, 
+									final Move move,
+									final int kingPosition,
+									final Alliance alliance) {
+		// Declare and initialize local variables.
+		final int from = move.getCurrentCoordinate();
+		final int to = move.getDestinationCoordinate();
+		final int captured = move.isAttack() ? move.getAttackedPiece().getPiecePosition() : to;
+		final int king = from == kingPosition ? to : kingPosition;
+		final int kingRow = king / ROWS;
+		final int kingColumn = king % ROWS;
+		
+		for(final int[] direction : ORTHOGONAL_DIRECTIONS) {
+			final Piece piece = firstPieceOnRay(board, kingRow, kingColumn, direction, from, to, captured);
+			if(isEnemy(piece, alliance) && (piece.getPieceType() == Piece.PieceType.ROOK || piece.getPieceType() == Piece.PieceType.QUEEN)) {
+				return false;
+			}
+		}
+		for(final int[] direction : DIAGONAL_DIRECTIONS) {
+			final Piece piece = firstPieceOnRay(board, kingRow, kingColumn, direction, from, to, captured);
+			if(isEnemy(piece, alliance) && (piece.getPieceType() == Piece.PieceType.BISHOP || piece.getPieceType() == Piece.PieceType.QUEEN)) {
+				return false;
+			}
+		}
+		for(final int[] offset : KNIGHT_OFFSETS) {
+			final Piece piece = pieceAt(board, kingRow + offset[0], kingColumn + offset[1], from, to, captured);
+			if(isEnemy(piece, alliance) && piece.getPieceType() == Piece.PieceType.KNIGHT) {
+				return false;
+			}
+		}
+		// Enemy pawns attack towards our side of the board: white pawns from the row below, black pawns from the row above.
+		final int pawnRow = alliance.isWhite() ? kingRow - 1 : kingRow + 1;
+		for(int columnOffset = -1; columnOffset <= 1; columnOffset += 2) {
+			final Piece piece = pieceAt(board, pawnRow, kingColumn + columnOffset, from, to, captured);
+			if(isEnemy(piece, alliance) && piece.getPieceType() == Piece.PieceType.PAWN) {
+				return false;
+			}
+		}
+		for(int rowOffset = -1; rowOffset <= 1; rowOffset++) {
+			for(int columnOffset = -1; columnOffset <= 1; columnOffset++) {
+				final Piece piece = pieceAt(board, kingRow + rowOffset, kingColumn + columnOffset, from, to, captured);
+				if(isEnemy(piece, alliance) && piece.getPieceType().isKing()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Method that checks if an enemy pawn attacks the given tile. Pawns only show up in the legal moves of their player
+	 * on tiles they can capture on, so empty tiles, like the ones a castling king passes, have to be checked here.
+	 * @param Board board the board the tile is on.
+	 * @param int tile the position coordinate of the tile.
+	 * @param Alliance alliance the alliance of the player the tile is checked for.
+	 * @return boolean true if a pawn of the opponent attacks the tile, false otherwise.
+	 */
+	static boolean isAttackedByPawn(final Board board,
+									final int tile,
+									final Alliance alliance) {
+		// Declare and initialize local variables.
+		final int pawnRow = alliance.isWhite() ? tile / ROWS - 1 : tile / ROWS + 1;
+		for(int columnOffset = -1; columnOffset <= 1; columnOffset += 2) {
+			final Piece piece = pieceAt(board, pawnRow, tile % ROWS + columnOffset, -1, -1, -1);
+			if(isEnemy(piece, alliance) && piece.getPieceType() == Piece.PieceType.PAWN) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Helper method that returns the first piece found from the given tile in the given direction on the virtual board.
+	 * @return Piece the first piece on the ray, or null if the ray reaches the edge of the board.
+	 */
+	private static Piece firstPieceOnRay(final Board board,
+											final int row,
+											final int column,
+											final int[] direction,
+											final int from,
+											final int to,
+											final int captured) {
+		for(int r = row + direction[0], c = column + direction[1]; isOnBoard(r, c); r += direction[0], c += direction[1]) {
+			if(r * ROWS + c == to) {
+				return null;
+			}
+			final Piece piece = pieceAt(board, r, c, from, to, captured);
+			if(piece != null) {
+				return piece;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Helper method that returns the piece on a tile of the virtual board.
+	 * The moved piece is not returned for its destination tile; it belongs to the player to move and never attacks its own king,
+	 * but rays stop on it, which firstPieceOnRay takes care of.
+	 * @return Piece the piece on the tile, or null if the tile is empty, left, captured on or outside the board.
+	 */
+	private static Piece pieceAt(final Board board,
+									final int row,
+									final int column,
+									final int from,
+									final int to,
+									final int captured) {
+		if(!isOnBoard(row, column)) {
+			return null;
+		}
+		final int tile = row * ROWS + column;
+		if(tile == from || tile == to || tile == captured) {
+			return null;
+		}
+		return board.getTile(tile).getPiece();
+	}
+	
+	private static boolean isOnBoard(final int row, final int column) {
+		return row >= 0 && row < ROWS && column >= 0 && column < ROWS;
+	}
+	
+	private static boolean isEnemy(final Piece piece, final Alliance alliance) {
+		return piece != null && piece.getPieceAlliance() != alliance;
+	}
+}
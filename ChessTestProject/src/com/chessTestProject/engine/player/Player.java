@@ -25,6 +25,7 @@ public abstract class Player {
 	protected final King playerKing;
 	protected final Collection<Move> legalMoves;
 	private final boolean isIncheck;
+	private Boolean hasEscapeMoves;
 	
 	// Constructor.
 	Player(final Board board,
@@ -35,9 +36,10 @@ public abstract class Player {
 		this.board = board;
 		this.playerKing = establishKing();
 		this.legalMoves = legalMoves;
+		// The check has to be known before the castles are calculated, a king in check cannot castle.
+		this.isIncheck = !Player.calculateAttacksOnTile(this.playerKing.getPiecePosition(), opponentMoves).isEmpty();
 		// XXX Doing this concatenation different than the guide!
 		this.legalMoves.addAll(calculateKingCastles(legalMoves,opponentMoves));
-		this.isIncheck = !Player.calculateAttacksOnTile(this.playerKing.getPiecePosition(), opponentMoves).isEmpty();
 	}
 
 	/**
@@ -130,20 +132,59 @@ public abstract class Player {
 	}
 	
 	/**
-	 * Method that checks if a player has any legal moves left.
+	 * Method that checks if a player has any legal moves left. The answer is computed once and then remembered,
+	 * because checkmate and stalemate are asked for at every leaf of a search.
 	 * @return boolean true if the player has legal moves to do, false otherwise.
 	 */
 	protected boolean hasEscapeMoves() {
+		if(this.hasEscapeMoves == null) {
+			this.hasEscapeMoves = calculateEscapeMoves();
+		}
+		return this.hasEscapeMoves;
+	}
+	
+	/**
+	 * Helper method that looks for the first legal move. Castling moves are played out on a new board,
+	 * all other moves are tested without building one.
+	 * @return boolean true if the player has a legal move, false otherwise.
+	 */
+	private boolean calculateEscapeMoves() {
+		// Declare and initialize local variables.
+		final int kingPosition = this.playerKing.getPiecePosition();
 		for(final Move move : this.legalMoves) {
-			// Declare and initialize local variables.
-			final MoveTransition transition = makeMove(move);
-			if(transition.getMoveStatus().isDone()) {
+			if(isLegalAfterCheck(move, kingPosition)) {
 				return true;
 			}
 		}
 		return false;
 	}
 	
+	/**
+	 * Method that counts the legal moves of the player, the same way as the search for escape moves:
+	 * castling moves are played out on a new board, all other moves are tested without building one.
+	 * @return int the number of legal moves.
+	 */
+	public int countLegalMoves() {
+		// Declare and initialize local variables.
+		final int kingPosition = this.playerKing.getPiecePosition();
+		int numLegalMoves = 0;
+		for(final Move move : this.legalMoves) {
+			if(isLegalAfterCheck(move, kingPosition)) {
+				numLegalMoves++;
+			}
+		}
+		return numLegalMoves;
+	}
+	
+	/**
+	 * Helper method that checks if a move does not leave the own king in check.
+	 * @return boolean true if the move can be played, false otherwise.
+	 */
+	private boolean isLegalAfterCheck(final Move move, final int kingPosition) {
+		return move.isCastlingMove() ? makeMove(move).getMoveStatus().isDone() :
+										KingSafety.isKingSafeAfter(this.board, move, kingPosition, getAlliance());
+	}
+	
 	/**
 	 * Method that simulates a move and the condition of the board before and after the move.
 	 * @param Move move a move that is going to be simulated.
@@ -79,6 +79,8 @@ public class WhitePlayer extends Player {
 				if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
 					if(Player.calculateAttacksOnTile(61, opponentsLegals).isEmpty() &&
 						Player.calculateAttacksOnTile(62, opponentsLegals).isEmpty() &&
+						!KingSafety.isAttackedByPawn(this.board, 62, getAlliance()) &&
+						!KingSafety.isAttackedByPawn(this.board, 61, getAlliance()) &&
 						rookTile.getPiece().getPieceType().isRook()) {
 					kingCastles.add(new Move.KingSideCastleMove(this.board, 
 																this.playerKing, 
@@ -97,7 +99,9 @@ public class WhitePlayer extends Player {
 				
 				if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove() &&
 				Player.calculateAttacksOnTile(58,  opponentsLegals).isEmpty() &&
+				!KingSafety.isAttackedByPawn(this.board, 58, getAlliance()) &&
 				Player.calculateAttacksOnTile(59,  opponentsLegals).isEmpty() &&
+				!KingSafety.isAttackedByPawn(this.board, 59, getAlliance()) &&
 				rookTile.getPiece().getPieceType().isRook()) {
 					kingCastles.add(new Move.QueenSideCastleMove(this.board, 
 																this.playerKing, 
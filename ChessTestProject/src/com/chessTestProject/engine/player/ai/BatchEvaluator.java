@@ -0,0 +1,86 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Board;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * Scores large batches of independent positions on a fork/join pool.
+ */
+public final class BatchEvaluator {
+
+	private static final int BOARDS_PER_TASK = 64;
+	private static final int PACKED_PER_TASK = 4096;
+	
+	private final ForkJoinPool pool;
+	
+	public BatchEvaluator() {
+		this(ForkJoinPool.commonPool());
+	}
+	
+	public BatchEvaluator(final ForkJoinPool pool) {
+		this.pool = pool;
+	}
+	
+	/**
+	 * Scores boards with evaluators from the supplier, one per worker thread, because evaluators may keep state.
+	 */
+	public int[] evaluate(final Supplier<? extends BoardEvaluator> evaluators,
+							final Board[] boards,
+							final int depth) {
+		final int[] scores = new int[boards.length];
+		final ThreadLocal<BoardEvaluator> evaluator = ThreadLocal.withInitial(evaluators);
+		this.pool.invoke(new BatchTask((from, to) -> {
+			final BoardEvaluator boardEvaluator = evaluator.get();
+			for(int i = from; i < to; i++) {
+				scores[i] = boardEvaluator.evaluate(boards[i], depth);
+			}
+		}, 0, boards.length, BOARDS_PER_TASK));
+		return scores;
+	}
+	
+	public int[] evaluate(final PackedEvaluator evaluator,
+							final PackedPositions positions) {
+		final int[] scores = new int[positions.size()];
+		this.pool.invoke(new BatchTask((from, to) -> evaluator.evaluate(positions, from, to, scores), 
+										0, positions.size(), PACKED_PER_TASK));
+		return scores;
+	}
+	
+	private interface Range {
+		void evaluate(int from, int to);
+	}
+	
+	private static final class BatchTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final Range range;
+		private final int from;
+		private final int to;
+		private final int threshold;
+		
+		BatchTask(final Range range,
+					final int from,
+					final int to,
+					final int threshold) {
+			this.range = range;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+		
+		@Override
+		protected void compute() {
+			if(this.to - this.from <= this.threshold) {
+				this.range.evaluate(this.from, this.to);
+				return;
+			}
+			final int middle = (this.from + this.to) >>> 1;
+			invokeAll(new BatchTask(this.range, this.from, middle, this.threshold),
+						new BatchTask(this.range, middle, this.to, this.threshold));
+		}
+	}
+}
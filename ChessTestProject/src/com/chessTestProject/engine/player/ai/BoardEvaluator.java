@@ -1,8 +1,49 @@
 package com.chessTestProject.engine.player.ai;
 
 import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
 
 public interface BoardEvaluator {
 
+	int NO_LAZY_MARGIN = -1;
+	
 	int evaluate(Board board, int depth);
+	
+	/**
+	 * Returns how far the expensive terms of evaluate, such as mobility, king safety and the check bonus, can move the
+	 * score of the board away from evaluateCheapTerms, or NO_LAZY_MARGIN when the evaluator has no cheap stage.
+	 * The margin must be a hard bound, since a search returns the bound it gives as the score of the board.
+	 */
+	default int getLazyMargin(Board board) {
+		return NO_LAZY_MARGIN;
+	}
+	
+	/**
+	 * Scores the board by its cheap terms only: material and piece-square values. Mates are left out as well,
+	 * so a search should only rely on this when the side to move is not in check.
+	 */
+	default int evaluateCheapTerms(Board board, int depth) {
+		return evaluate(board, depth);
+	}
+	
+	/**
+	 * Scores a batch of boards into scores, one call to evaluate per board. See BatchEvaluator for a parallel version.
+	 */
+	default void evaluate(Board[] boards, int depth, int[] scores) {
+		for(int i = 0; i < boards.length; i++) {
+			scores[i] = evaluate(boards[i], depth);
+		}
+	}
+	
+	/**
+	 * Called by a search right after it made the move, so evaluators can update their state incrementally.
+	 */
+	default void makeMove(Move move, Board transitionBoard) {
+	}
+	
+	/**
+	 * Called by a search when it returns from the position reached by the last made move.
+	 */
+	default void unmakeMove() {
+	}
 }
@@ -0,0 +1,115 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the scores of another evaluator in a direct-mapped table indexed by the Zobrist hash of the board.
+ * Every entry is a pair of longs, the key xor-ed with the data and the data itself, so a torn entry written by
+ * another thread fails the key check instead of returning a wrong score and no locking is needed.
+ * The depth is mixed into the key because mate scores depend on it.
+ */
+public final class CachingBoardEvaluator implements BoardEvaluator {
+
+	private static final int DEFAULT_ENTRIES = 1 << 16;
+	private static final long DEPTH_MIX = 0x9E3779B97F4A7C15L;
+	
+	private final BoardEvaluator boardEvaluator;
+	private final long[] entries;
+	private final int mask;
+	private final LongAdder hits;
+	private final LongAdder misses;
+	
+	public CachingBoardEvaluator(final BoardEvaluator boardEvaluator) {
+		this(boardEvaluator, DEFAULT_ENTRIES);
+	}
+	
+	/**
+	 * @param numEntries the number of cached scores, rounded up to a power of two.
+	 */
+	public CachingBoardEvaluator(final BoardEvaluator boardEvaluator,
+									final int numEntries) {
+		final int size = Integer.highestOneBit(Math.max(1, numEntries - 1) << 1);
+		this.boardEvaluator = boardEvaluator;
+		this.entries = new long[2 * size];
+		this.mask = size - 1;
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+	}
+	
+	@Override
+	public int evaluate(final Board board,
+						final int depth) {
+		final long key = board.getZobristHash() ^ (depth * DEPTH_MIX);
+		final int index = 2 * ((int) (key ^ (key >>> 32)) & this.mask);
+		final long check = this.entries[index];
+		final long data = this.entries[index + 1];
+		if((check ^ data) == key) {
+			this.hits.increment();
+			return (int) data;
+		}
+		this.misses.increment();
+		final int score = this.boardEvaluator.evaluate(board, depth);
+		this.entries[index] = key ^ score;
+		this.entries[index + 1] = score;
+		return score;
+	}
+	
+	@Override
+	public int getLazyMargin(final Board board) {
+		return this.boardEvaluator.getLazyMargin(board);
+	}
+	
+	/**
+	 * Cheap terms are not cached, they are asked from the wrapped evaluator.
+	 */
+	@Override
+	public int evaluateCheapTerms(final Board board,
+									final int depth) {
+		return this.boardEvaluator.evaluateCheapTerms(board, depth);
+	}
+	
+	@Override
+	public void makeMove(final Move move,
+							final Board transitionBoard) {
+		this.boardEvaluator.makeMove(move, transitionBoard);
+	}
+	
+	@Override
+	public void unmakeMove() {
+		this.boardEvaluator.unmakeMove();
+	}
+	
+	public BoardEvaluator getBoardEvaluator() {
+		return this.boardEvaluator;
+	}
+	
+	public long getHits() {
+		return this.hits.sum();
+	}
+	
+	public long getMisses() {
+		return this.misses.sum();
+	}
+	
+	public double getHitRate() {
+		final long hits = getHits();
+		final long probes = hits + getMisses();
+		return probes == 0 ? 0.0 : (double) hits / probes;
+	}
+	
+	public void clear() {
+		Arrays.fill(this.entries, 0L);
+		this.hits.reset();
+		this.misses.reset();
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("eval cache %d entries, %d hits, %d misses (%.1f%%)", 
+				this.entries.length / 2, getHits(), getMisses(), 100 * getHitRate());
+	}
+}
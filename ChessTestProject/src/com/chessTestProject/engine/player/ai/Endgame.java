@@ -0,0 +1,175 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.BoardUtils;
+import com.chessTestProject.engine.pieces.Piece;
+import com.chessTestProject.engine.player.Player;
+
+/**
+ * Known endings, named by their material signature with the strong side first. Scores are from the point of view
+ * of the strong side. Won endings score KNOWN_WIN plus terms that guide the search to the mate, which keeps them
+ * below every mate score.
+ */
+enum Endgame {
+
+	KQK("KQK") {
+		@Override
+		int score(final Board board, final Player strong, final Player weak) {
+			return KNOWN_WIN + Piece.PieceType.QUEEN.getPieceValue() + driveToEdge(strong, weak);
+		}
+	},
+	KRK("KRK") {
+		@Override
+		int score(final Board board, final Player strong, final Player weak) {
+			return KNOWN_WIN + Piece.PieceType.ROOK.getPieceValue() + driveToEdge(strong, weak);
+		}
+	},
+	/**
+	 * Mate can only be forced in a corner of the colour of the bishop, so the weak king is driven there.
+	 */
+	KBNK("KBNK") {
+		@Override
+		int score(final Board board, final Player strong, final Player weak) {
+			int bishopColour = 0;
+			for(final Piece piece : strong.getActivePieces()) {
+				if(piece.getPieceType() == Piece.PieceType.BISHOP) {
+					bishopColour = colour(piece.getPiecePosition());
+				}
+			}
+			final int weakKing = weak.getPlayerKing().getPiecePosition();
+			final int cornerDistance = bishopColour == colour(0) ?
+					Math.min(distance(weakKing, 0), distance(weakKing, 63)) :
+						Math.min(distance(weakKing, 7), distance(weakKing, 56));
+			return KNOWN_WIN + Piece.PieceType.BISHOP.getPieceValue() + Piece.PieceType.KNIGHT.getPieceValue() +
+					CORNER_WEIGHT * (ROWS - 1 - cornerDistance) +
+					KING_DISTANCE_WEIGHT * (ROWS - 1 - distance(strong.getPlayerKing().getPiecePosition(), weakKing));
+		}
+	},
+	/**
+	 * Decides the clear cases: a pawn the weak king cannot catch, a strong king on a key square in front of the pawn,
+	 * a rook pawn whose promotion tile the weak king controls and a pawn that is lost at once. Other positions get a
+	 * small score growing with the advance of the pawn.
+	 */
+	KPK("KPK") {
+		@Override
+		int score(final Board board, final Player strong, final Player weak) {
+			Piece pawn = null;
+			for(final Piece piece : strong.getActivePieces()) {
+				if(piece.getPieceType() == Piece.PieceType.PAWN) {
+					pawn = piece;
+				}
+			}
+			final boolean isWhite = strong.getAlliance().isWhite();
+			final int pawnTile = pawn.getPiecePosition();
+			final int pawnRow = pawnTile / ROWS;
+			final int pawnColumn = pawnTile % ROWS;
+			final int relativeRank = isWhite ? ROWS - 1 - pawnRow : pawnRow;
+			final int promotionTile = isWhite ? pawnColumn : (ROWS - 1) * ROWS + pawnColumn;
+			final int strongKing = strong.getPlayerKing().getPiecePosition();
+			final int weakKing = weak.getPlayerKing().getPiecePosition();
+			final boolean isWeakToMove = board.currentPlayer().getAlliance() == weak.getAlliance();
+			
+			if(isWeakToMove && distance(weakKing, pawnTile) == 1 && distance(strongKing, pawnTile) > 1) {
+				return DRAW;
+			}
+			final boolean isRookPawn = pawnColumn == 0 || pawnColumn == ROWS - 1;
+			if(isRookPawn && distance(weakKing, promotionTile) <= 1) {
+				return DRAW;
+			}
+			final int pawnMoves = (ROWS - 1 - relativeRank) - (relativeRank == 1 ? 1 : 0);
+			final int weakKingMoves = distance(weakKing, promotionTile) - (isWeakToMove ? 1 : 0);
+			final boolean isBlockedByOwnKing = strongKing % ROWS == pawnColumn && 
+					(isWhite ? strongKing < pawnTile : strongKing > pawnTile);
+			if(weakKingMoves > pawnMoves && !isBlockedByOwnKing) {
+				return KNOWN_WIN + PAWN_RANK_WEIGHT * relativeRank;
+			}
+			if(!isRookPawn && isOnKeySquare(strongKing, pawnRow, pawnColumn, relativeRank, isWhite ? -1 : 1)) {
+				return KNOWN_WIN + PAWN_RANK_WEIGHT * relativeRank - KING_DISTANCE_WEIGHT * distance(strongKing, pawnTile);
+			}
+			return Piece.PieceType.PAWN.getPieceValue() / 4 + PAWN_RANK_WEIGHT / 4 * relativeRank;
+		}
+	},
+	KK("KK") {
+		@Override
+		int score(final Board board, final Player strong, final Player weak) {
+			return DRAW;
+		}
+	},
+	KNK("KNK") {
+		@Override
+		int score(final Board board, final Player strong, final Player weak) {
+			return DRAW;
+		}
+	},
+	KBK("KBK") {
+		@Override
+		int score(final Board board, final Player strong, final Player weak) {
+			return DRAW;
+		}
+	},
+	KNNK("KNNK") {
+		@Override
+		int score(final Board board, final Player strong, final Player weak) {
+			return DRAW;
+		}
+	};
+	
+	static final int KNOWN_WIN = 3000;
+	private static final int DRAW = 0;
+	private static final int ROWS = BoardUtils.NUM_TILES_PER_ROW;
+	private static final int EDGE_WEIGHT = 20;
+	private static final int CORNER_WEIGHT = 40;
+	private static final int KING_DISTANCE_WEIGHT = 10;
+	private static final int PAWN_RANK_WEIGHT = 40;
+	
+	private final String signature;
+	
+	Endgame(final String signature) {
+		this.signature = signature;
+	}
+	
+	String getSignature() {
+		return this.signature;
+	}
+	
+	abstract int score(Board board, Player strong, Player weak);
+	
+	/**
+	 * Rewards a weak king far from the centre and a strong king close to it, which is how mates with a major piece are forced.
+	 */
+	private static int driveToEdge(final Player strong, 
+									final Player weak) {
+		final int weakKing = weak.getPlayerKing().getPiecePosition();
+		final int row = weakKing / ROWS;
+		final int column = weakKing % ROWS;
+		final int centreDistance = Math.max(3 - row, row - 4) + Math.max(3 - column, column - 4);
+		return EDGE_WEIGHT * centreDistance + 
+				KING_DISTANCE_WEIGHT * (ROWS - 1 - distance(strong.getPlayerKing().getPiecePosition(), weakKing));
+	}
+	
+	/**
+	 * Checks if the king stands on a key square of the pawn: a tile on the pawn's file or a neighbouring one,
+	 * two ranks in front of the pawn, or also one rank in front once the pawn has crossed the middle of the board.
+	 */
+	private static boolean isOnKeySquare(final int king,
+											final int pawnRow,
+											final int pawnColumn,
+											final int relativeRank,
+											final int forward) {
+		final int kingRow = king / ROWS;
+		final int kingColumn = king % ROWS;
+		if(Math.abs(kingColumn - pawnColumn) > 1) {
+			return false;
+		}
+		return kingRow == pawnRow + 2 * forward || (relativeRank >= 4 && kingRow == pawnRow + forward);
+	}
+	
+	private static int distance(final int from, 
+								final int to) {
+		return Math.max(Math.abs(from / ROWS - to / ROWS), Math.abs(from % ROWS - to % ROWS));
+	}
+	
+	private static int colour(final int tile) {
+		return (tile / ROWS + tile % ROWS) % 2;
+	}
+}
@@ -0,0 +1,72 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dispatches on the material key of the board: known endings are scored by their Endgame, everything else by the
+ * wrapped evaluator. Mates are always left to the wrapped evaluator and stalemates score as a draw.
+ */
+public final class EndgameBoardEvaluator implements BoardEvaluator {
+
+	private final BoardEvaluator boardEvaluator;
+	private final Map<Long, Endgame> whiteEndgames;
+	private final Map<Long, Endgame> blackEndgames;
+	
+	public EndgameBoardEvaluator(final BoardEvaluator boardEvaluator) {
+		this.boardEvaluator = boardEvaluator;
+		this.whiteEndgames = new HashMap<>();
+		this.blackEndgames = new HashMap<>();
+		for(final Endgame endgame : Endgame.values()) {
+			this.whiteEndgames.put(MaterialKey.of(endgame.getSignature()), endgame);
+			this.blackEndgames.put(MaterialKey.of(MaterialKey.mirror(endgame.getSignature())), endgame);
+		}
+	}
+	
+	@Override
+	public int evaluate(final Board board,
+						final int depth) {
+		final long materialKey = MaterialKey.of(board);
+		final Endgame whiteEndgame = this.whiteEndgames.get(materialKey);
+		final Endgame blackEndgame = whiteEndgame == null ? this.blackEndgames.get(materialKey) : null;
+		if((whiteEndgame == null && blackEndgame == null) || board.currentPlayer().isInCheckMate()) {
+			return this.boardEvaluator.evaluate(board, depth);
+		}
+		if(board.currentPlayer().isInStaleMate()) {
+			return 0;
+		}
+		return whiteEndgame != null ? 
+				whiteEndgame.score(board, board.whitePlayer(), board.blackPlayer()) : 
+					-blackEndgame.score(board, board.blackPlayer(), board.whitePlayer());
+	}
+	
+	@Override
+	public int getLazyMargin(final Board board) {
+		return this.boardEvaluator.getLazyMargin(board);
+	}
+	
+	/**
+	 * Known endings are scored in full, since their scores are cheap and far from those of the wrapped evaluator.
+	 */
+	@Override
+	public int evaluateCheapTerms(final Board board,
+									final int depth) {
+		final long materialKey = MaterialKey.of(board);
+		return this.whiteEndgames.containsKey(materialKey) || this.blackEndgames.containsKey(materialKey) ?
+				evaluate(board, depth) : this.boardEvaluator.evaluateCheapTerms(board, depth);
+	}
+	
+	@Override
+	public void makeMove(final Move move,
+							final Board transitionBoard) {
+		this.boardEvaluator.makeMove(move, transitionBoard);
+	}
+	
+	@Override
+	public void unmakeMove() {
+		this.boardEvaluator.unmakeMove();
+	}
+}
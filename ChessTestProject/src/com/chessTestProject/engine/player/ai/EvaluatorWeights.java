@@ -0,0 +1,365 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.BoardUtils;
+import com.chessTestProject.engine.pieces.Piece.PieceType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * The tunable weights of the TaperedBoardEvaluator. The defaults are read from tapered_eval.properties next to this
+ * class; a weights file written by save only needs to contain the keys it changes.
+ */
+public final class EvaluatorWeights {
+
+	private static final String DEFAULT_WEIGHTS = "tapered_eval.properties";
+	private static final int NUM_PIECE_TYPES = PieceType.values().length;
+	private static final int NUM_VALUED_TYPES = PieceType.KING.ordinal();
+	
+	private final int[] phaseWeights;
+	private final int[] middlegameValues;
+	private final int[] endgameValues;
+	private final int[][] middlegameTables;
+	private final int[][] endgameTables;
+	private final int middlegameMobility;
+	private final int endgameMobility;
+	private final int checkBonus;
+	private final int castleBonus;
+	private final int[] middlegamePassedPawn;
+	private final int[] endgamePassedPawn;
+	private final int middlegameDoubledPawn;
+	private final int endgameDoubledPawn;
+	private final int middlegameIsolatedPawn;
+	private final int endgameIsolatedPawn;
+	private final int middlegameBackwardPawn;
+	private final int endgameBackwardPawn;
+	private final int[] pawnShield;
+	
+	private EvaluatorWeights(final Properties properties) {
+		this.phaseWeights = new int[NUM_PIECE_TYPES];
+		this.middlegameValues = new int[NUM_PIECE_TYPES];
+		this.endgameValues = new int[NUM_PIECE_TYPES];
+		this.middlegameTables = new int[NUM_PIECE_TYPES][];
+		this.endgameTables = new int[NUM_PIECE_TYPES][];
+		for(final PieceType pieceType : PieceType.values()) {
+			final int type = pieceType.ordinal();
+			this.phaseWeights[type] = getInt(properties, "phase." + pieceType.name());
+			this.middlegameTables[type] = getTable(properties, "mg.pst." + pieceType.name());
+			this.endgameTables[type] = getTable(properties, "eg.pst." + pieceType.name());
+			this.middlegameValues[type] = getInt(properties, "mg.value." + pieceType.name());
+			this.endgameValues[type] = getInt(properties, "eg.value." + pieceType.name());
+		}
+		this.middlegameMobility = getInt(properties, "mg.mobility");
+		this.endgameMobility = getInt(properties, "eg.mobility");
+		this.checkBonus = getInt(properties, "check.bonus");
+		this.castleBonus = getInt(properties, "castle.bonus");
+		this.middlegamePassedPawn = getInts(properties, "mg.pawn.passed", BoardUtils.NUM_TILES_PER_ROW);
+		this.endgamePassedPawn = getInts(properties, "eg.pawn.passed", BoardUtils.NUM_TILES_PER_ROW);
+		this.middlegameDoubledPawn = getInt(properties, "mg.pawn.doubled");
+		this.endgameDoubledPawn = getInt(properties, "eg.pawn.doubled");
+		this.middlegameIsolatedPawn = getInt(properties, "mg.pawn.isolated");
+		this.endgameIsolatedPawn = getInt(properties, "eg.pawn.isolated");
+		this.middlegameBackwardPawn = getInt(properties, "mg.pawn.backward");
+		this.endgameBackwardPawn = getInt(properties, "eg.pawn.backward");
+		this.pawnShield = getInts(properties, "mg.pawn.shield", 3);
+	}
+	
+	/**
+	 * Copies the weights with the tunable parameters replaced, in the order of getParameters.
+	 */
+	private EvaluatorWeights(final EvaluatorWeights weights,
+								final int[] parameters) {
+		int p = 0;
+		this.phaseWeights = weights.phaseWeights.clone();
+		this.middlegameValues = weights.middlegameValues.clone();
+		this.endgameValues = weights.endgameValues.clone();
+		for(int type = 0; type < NUM_VALUED_TYPES; type++) {
+			this.middlegameValues[type] = parameters[p++];
+		}
+		for(int type = 0; type < NUM_VALUED_TYPES; type++) {
+			this.endgameValues[type] = parameters[p++];
+		}
+		this.middlegameTables = new int[NUM_PIECE_TYPES][];
+		this.endgameTables = new int[NUM_PIECE_TYPES][];
+		for(int type = 0; type < NUM_PIECE_TYPES; type++) {
+			this.middlegameTables[type] = Arrays.copyOfRange(parameters, p, p += BoardUtils.NUM_TILES);
+		}
+		for(int type = 0; type < NUM_PIECE_TYPES; type++) {
+			this.endgameTables[type] = Arrays.copyOfRange(parameters, p, p += BoardUtils.NUM_TILES);
+		}
+		this.middlegameMobility = parameters[p++];
+		this.endgameMobility = parameters[p++];
+		this.checkBonus = parameters[p++];
+		this.castleBonus = weights.castleBonus;
+		this.middlegamePassedPawn = Arrays.copyOfRange(parameters, p, p += BoardUtils.NUM_TILES_PER_ROW);
+		this.endgamePassedPawn = Arrays.copyOfRange(parameters, p, p += BoardUtils.NUM_TILES_PER_ROW);
+		this.middlegameDoubledPawn = parameters[p++];
+		this.endgameDoubledPawn = parameters[p++];
+		this.middlegameIsolatedPawn = parameters[p++];
+		this.endgameIsolatedPawn = parameters[p++];
+		this.middlegameBackwardPawn = parameters[p++];
+		this.endgameBackwardPawn = parameters[p++];
+		this.pawnShield = Arrays.copyOfRange(parameters, p, p += weights.pawnShield.length);
+		if(p != parameters.length) {
+			throw new RuntimeException("Expected " + p + " evaluator parameters but got " + parameters.length);
+		}
+	}
+	
+	/**
+	 * Returns the weights shipped with the engine.
+	 */
+	public static EvaluatorWeights defaults() {
+		return new EvaluatorWeights(defaultProperties());
+	}
+	
+	/**
+	 * Reads a weights file. Keys missing from the file keep their default value.
+	 */
+	public static EvaluatorWeights load(final String path) throws IOException {
+		final Properties properties = new Properties(defaultProperties());
+		try(final Reader reader = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		}
+		return new EvaluatorWeights(properties);
+	}
+	
+	/**
+	 * Returns the tunable weights as one vector: the middlegame and endgame values of every piece type but the king,
+	 * the middlegame and endgame piece-square tables, mobility, the check bonus and the pawn structure weights.
+	 * The phase weights and the castle bonus are left out.
+	 */
+	public int[] getParameters() {
+		final int[] parameters = new int[2 * NUM_VALUED_TYPES + 2 * NUM_PIECE_TYPES * BoardUtils.NUM_TILES + 3 +
+		                                 2 * BoardUtils.NUM_TILES_PER_ROW + 6 + this.pawnShield.length];
+		int p = 0;
+		for(int type = 0; type < NUM_VALUED_TYPES; type++) {
+			parameters[p++] = this.middlegameValues[type];
+		}
+		for(int type = 0; type < NUM_VALUED_TYPES; type++) {
+			parameters[p++] = this.endgameValues[type];
+		}
+		for(int type = 0; type < NUM_PIECE_TYPES; type++) {
+			System.arraycopy(this.middlegameTables[type], 0, parameters, p, BoardUtils.NUM_TILES);
+			p += BoardUtils.NUM_TILES;
+		}
+		for(int type = 0; type < NUM_PIECE_TYPES; type++) {
+			System.arraycopy(this.endgameTables[type], 0, parameters, p, BoardUtils.NUM_TILES);
+			p += BoardUtils.NUM_TILES;
+		}
+		parameters[p++] = this.middlegameMobility;
+		parameters[p++] = this.endgameMobility;
+		parameters[p++] = this.checkBonus;
+		System.arraycopy(this.middlegamePassedPawn, 0, parameters, p, BoardUtils.NUM_TILES_PER_ROW);
+		p += BoardUtils.NUM_TILES_PER_ROW;
+		System.arraycopy(this.endgamePassedPawn, 0, parameters, p, BoardUtils.NUM_TILES_PER_ROW);
+		p += BoardUtils.NUM_TILES_PER_ROW;
+		parameters[p++] = this.middlegameDoubledPawn;
+		parameters[p++] = this.endgameDoubledPawn;
+		parameters[p++] = this.middlegameIsolatedPawn;
+		parameters[p++] = this.endgameIsolatedPawn;
+		parameters[p++] = this.middlegameBackwardPawn;
+		parameters[p++] = this.endgameBackwardPawn;
+		System.arraycopy(this.pawnShield, 0, parameters, p, this.pawnShield.length);
+		return parameters;
+	}
+	
+	public EvaluatorWeights withParameters(final int[] parameters) {
+		return new EvaluatorWeights(this, parameters);
+	}
+	
+	public void save(final String path) throws IOException {
+		try(final Writer writer = Files.newBufferedWriter(Paths.get(path), StandardCharsets.UTF_8)) {
+			for(final PieceType pieceType : PieceType.values()) {
+				writer.write("phase." + pieceType.name() + "=" + this.phaseWeights[pieceType.ordinal()] + "\n");
+			}
+			for(final PieceType pieceType : PieceType.values()) {
+				writer.write("mg.value." + pieceType.name() + "=" + this.middlegameValues[pieceType.ordinal()] + "\n");
+				writer.write("eg.value." + pieceType.name() + "=" + this.endgameValues[pieceType.ordinal()] + "\n");
+			}
+			for(final PieceType pieceType : PieceType.values()) {
+				writeTable(writer, "mg.pst." + pieceType.name(), this.middlegameTables[pieceType.ordinal()]);
+				writeTable(writer, "eg.pst." + pieceType.name(), this.endgameTables[pieceType.ordinal()]);
+			}
+			writer.write("mg.mobility=" + this.middlegameMobility + "\n");
+			writer.write("eg.mobility=" + this.endgameMobility + "\n");
+			writer.write("check.bonus=" + this.checkBonus + "\n");
+			writer.write("castle.bonus=" + this.castleBonus + "\n");
+			writer.write("mg.pawn.passed=" + join(this.middlegamePassedPawn) + "\n");
+			writer.write("eg.pawn.passed=" + join(this.endgamePassedPawn) + "\n");
+			writer.write("mg.pawn.doubled=" + this.middlegameDoubledPawn + "\n");
+			writer.write("eg.pawn.doubled=" + this.endgameDoubledPawn + "\n");
+			writer.write("mg.pawn.isolated=" + this.middlegameIsolatedPawn + "\n");
+			writer.write("eg.pawn.isolated=" + this.endgameIsolatedPawn + "\n");
+			writer.write("mg.pawn.backward=" + this.middlegameBackwardPawn + "\n");
+			writer.write("eg.pawn.backward=" + this.endgameBackwardPawn + "\n");
+			writer.write("mg.pawn.shield=" + join(this.pawnShield) + "\n");
+		}
+	}
+	
+	public int getPhaseWeight(final PieceType pieceType) {
+		return this.phaseWeights[pieceType.ordinal()];
+	}
+	
+	/**
+	 * Returns the game phase of the starting position, the phase at which the middlegame weights apply fully.
+	 */
+	public int getMaxPhase() {
+		return 16 * getPhaseWeight(PieceType.PAWN) +
+				4 * getPhaseWeight(PieceType.KNIGHT) +
+				4 * getPhaseWeight(PieceType.BISHOP) +
+				4 * getPhaseWeight(PieceType.ROOK) +
+				2 * getPhaseWeight(PieceType.QUEEN) +
+				2 * getPhaseWeight(PieceType.KING);
+	}
+	
+	/**
+	 * Returns the middlegame value of a white piece on the tile, or of a black piece on the mirrored tile.
+	 */
+	public int getMiddlegameScore(final PieceType pieceType, 
+									final int tileCoordinate) {
+		return this.middlegameValues[pieceType.ordinal()] + this.middlegameTables[pieceType.ordinal()][tileCoordinate];
+	}
+	
+	/**
+	 * Returns the endgame value of a white piece on the tile, or of a black piece on the mirrored tile.
+	 */
+	public int getEndgameScore(final PieceType pieceType, 
+								final int tileCoordinate) {
+		return this.endgameValues[pieceType.ordinal()] + this.endgameTables[pieceType.ordinal()][tileCoordinate];
+	}
+	
+	public int getMiddlegameMobility() {
+		return this.middlegameMobility;
+	}
+	
+	public int getEndgameMobility() {
+		return this.endgameMobility;
+	}
+	
+	public int getCheckBonus() {
+		return this.checkBonus;
+	}
+	
+	public int getCastleBonus() {
+		return this.castleBonus;
+	}
+	
+	/**
+	 * Returns the middlegame bonus of a passed pawn on the given rank, counted from its own side of the board.
+	 */
+	public int getMiddlegamePassedPawn(final int relativeRank) {
+		return this.middlegamePassedPawn[relativeRank];
+	}
+	
+	public int getEndgamePassedPawn(final int relativeRank) {
+		return this.endgamePassedPawn[relativeRank];
+	}
+	
+	public int getMiddlegameDoubledPawn() {
+		return this.middlegameDoubledPawn;
+	}
+	
+	public int getEndgameDoubledPawn() {
+		return this.endgameDoubledPawn;
+	}
+	
+	public int getMiddlegameIsolatedPawn() {
+		return this.middlegameIsolatedPawn;
+	}
+	
+	public int getEndgameIsolatedPawn() {
+		return this.endgameIsolatedPawn;
+	}
+	
+	public int getMiddlegameBackwardPawn() {
+		return this.middlegameBackwardPawn;
+	}
+	
+	public int getEndgameBackwardPawn() {
+		return this.endgameBackwardPawn;
+	}
+	
+	/**
+	 * Returns the middlegame score of one file in front of the king: 0 for a pawn on the second rank,
+	 * 1 for a pawn on the third rank and 2 for a file without a shielding pawn.
+	 */
+	public int getPawnShield(final int shieldIndex) {
+		return this.pawnShield[shieldIndex];
+	}
+	
+	private static Properties defaultProperties() {
+		final Properties properties = new Properties();
+		try(final InputStream inputStream = EvaluatorWeights.class.getResourceAsStream(DEFAULT_WEIGHTS)) {
+			if(inputStream == null) {
+				throw new RuntimeException("Missing default evaluator weights " + DEFAULT_WEIGHTS);
+			}
+			properties.load(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+		} catch(final IOException e) {
+			throw new RuntimeException("Could not read default evaluator weights " + DEFAULT_WEIGHTS, e);
+		}
+		return properties;
+	}
+	
+	private static int getInt(final Properties properties, 
+								final String key) {
+		final String value = properties.getProperty(key);
+		if(value == null) {
+			throw new RuntimeException("Missing evaluator weight " + key);
+		}
+		return Integer.parseInt(value.trim());
+	}
+	
+	private static int[] getTable(final Properties properties, 
+									final String key) {
+		return getInts(properties, key, BoardUtils.NUM_TILES);
+	}
+	
+	private static int[] getInts(final Properties properties, 
+									final String key,
+									final int length) {
+		final String value = properties.getProperty(key);
+		if(value == null) {
+			throw new RuntimeException("Missing evaluator weight " + key);
+		}
+		final String[] entries = value.split(",");
+		if(entries.length != length) {
+			throw new RuntimeException("Evaluator weight " + key + " has " + entries.length + " entries instead of " + length);
+		}
+		final int[] values = new int[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = Integer.parseInt(entries[i].trim());
+		}
+		return values;
+	}
+	
+	private static String join(final int[] values) {
+		final StringBuilder builder = new StringBuilder();
+		for(int i = 0; i < values.length; i++) {
+			builder.append(i == 0 ? "" : ", ").append(values[i]);
+		}
+		return builder.toString();
+	}
+	
+	private static void writeTable(final Writer writer, 
+									final String key, 
+									final int[] table) throws IOException {
+		writer.write(key + "=\\\n");
+		for(int i = 0; i < BoardUtils.NUM_TILES; i++) {
+			writer.write(i % BoardUtils.NUM_TILES_PER_ROW == 0 ? "\t" : " ");
+			writer.write(String.format("%4d", table[i]));
+			if(i < BoardUtils.NUM_TILES - 1) {
+				writer.write(i % BoardUtils.NUM_TILES_PER_ROW == BoardUtils.NUM_TILES_PER_ROW - 1 ? ", \\\n" : ",");
+			}
+		}
+		writer.write("\n");
+	}
+}
@@ -0,0 +1,127 @@
+package com.chessTestProject.engine.player.ai;
+
+/**
+ * Settings for the pruning techniques MiniMax applies near the leaves. Every technique can be switched on its own;
+ * the margins and move counts are indexed by the remaining depth.
+ */
+public final class FrontierPruning {
+
+	public static final FrontierPruning NONE = new Builder().build();
+	public static final FrontierPruning ALL = new Builder().setFutilityPruning(true)
+															.setRazoring(true)
+															.setLateMovePruning(true)
+															.build();
+	
+	private final boolean futilityPruning;
+	private final boolean razoring;
+	private final boolean lateMovePruning;
+	private final boolean verifying;
+	private final int[] futilityMargins;
+	private final int[] razorMargins;
+	private final int[] lateMoveCounts;
+	
+	private FrontierPruning(final Builder builder) {
+		this.futilityPruning = builder.futilityPruning;
+		this.razoring = builder.razoring;
+		this.lateMovePruning = builder.lateMovePruning;
+		this.verifying = builder.verifying;
+		this.futilityMargins = builder.futilityMargins.clone();
+		this.razorMargins = builder.razorMargins.clone();
+		this.lateMoveCounts = builder.lateMoveCounts.clone();
+	}
+	
+	public boolean isEnabled() {
+		return this.futilityPruning || this.razoring || this.lateMovePruning;
+	}
+	
+	public boolean isFutilityPruning() {
+		return this.futilityPruning;
+	}
+	
+	public boolean isRazoring() {
+		return this.razoring;
+	}
+	
+	public boolean isLateMovePruning() {
+		return this.lateMovePruning;
+	}
+	
+	public boolean isVerifying() {
+		return this.verifying;
+	}
+	
+	public int getMaxDepth() {
+		return Builder.MAX_DEPTH;
+	}
+	
+	public int getFutilityMargin(final int depth) {
+		return depth < this.futilityMargins.length ? this.futilityMargins[depth] : Integer.MAX_VALUE / 2;
+	}
+	
+	public int getRazorMargin(final int depth) {
+		return depth < this.razorMargins.length ? this.razorMargins[depth] : Integer.MAX_VALUE / 2;
+	}
+	
+	public int getLateMoveCount(final int depth) {
+		return depth < this.lateMoveCounts.length ? this.lateMoveCounts[depth] : Integer.MAX_VALUE;
+	}
+	
+	@Override
+	public String toString() {
+		return "futility=" + this.futilityPruning + " razoring=" + this.razoring + " lateMove=" + this.lateMovePruning;
+	}
+	
+	public static class Builder {
+		private static final int MAX_DEPTH = 2;
+		
+		boolean futilityPruning;
+		boolean razoring;
+		boolean lateMovePruning;
+		boolean verifying;
+		int[] futilityMargins = {0, 200, 500};
+		int[] razorMargins = {0, 300, 600};
+		int[] lateMoveCounts = {0, 8, 14};
+		
+		public Builder setFutilityPruning(final boolean futilityPruning) {
+			this.futilityPruning = futilityPruning;
+			return this;
+		}
+		
+		public Builder setRazoring(final boolean razoring) {
+			this.razoring = razoring;
+			return this;
+		}
+		
+		public Builder setLateMovePruning(final boolean lateMovePruning) {
+			this.lateMovePruning = lateMovePruning;
+			return this;
+		}
+		
+		public Builder setVerifying(final boolean verifying) {
+			this.verifying = verifying;
+			return this;
+		}
+		
+		public Builder setFutilityMargins(final int depthOneMargin, 
+											final int depthTwoMargin) {
+			this.futilityMargins = new int[] {0, depthOneMargin, depthTwoMargin};
+			return this;
+		}
+		
+		public Builder setRazorMargins(final int depthOneMargin, 
+										final int depthTwoMargin) {
+			this.razorMargins = new int[] {0, depthOneMargin, depthTwoMargin};
+			return this;
+		}
+		
+		public Builder setLateMoveCounts(final int depthOneCount, 
+											final int depthTwoCount) {
+			this.lateMoveCounts = new int[] {0, depthOneCount, depthTwoCount};
+			return this;
+		}
+		
+		public FrontierPruning build() {
+			return new FrontierPruning(this);
+		}
+	}
+}
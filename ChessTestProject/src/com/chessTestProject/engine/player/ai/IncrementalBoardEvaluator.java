@@ -0,0 +1,177 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.Alliance;
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.pieces.Pawn;
+import com.chessTestProject.engine.pieces.Piece;
+import com.chessTestProject.engine.pieces.Piece.PieceType;
+
+import java.util.Arrays;
+
+/**
+ * Base class for evaluators whose terms are sums over the pieces on the board. The sums are kept in an accumulator
+ * per ply: making a move copies the accumulator of the parent and applies the pieces that left and arrived,
+ * unmaking a move simply drops back to the parent's accumulator.
+ * Boards that are not on the stack, for example when a caller does not report its moves, are accumulated from scratch.
+ * With cross-checking switched on every evaluation is compared to a full recomputation.
+ */
+public abstract class IncrementalBoardEvaluator implements BoardEvaluator {
+
+	private static final int INITIAL_PLIES = 64;
+	
+	private final int accumulatorSize;
+	private final boolean crossChecking;
+	private final int[] scratchAccumulator;
+	private Board[] boards;
+	private int[][] accumulators;
+	private int ply;
+	
+	protected IncrementalBoardEvaluator(final int accumulatorSize,
+										final boolean crossChecking) {
+		this.accumulatorSize = accumulatorSize;
+		this.crossChecking = crossChecking;
+		this.scratchAccumulator = new int[accumulatorSize];
+		this.boards = new Board[INITIAL_PLIES];
+		this.accumulators = new int[INITIAL_PLIES][accumulatorSize];
+		this.ply = -1;
+	}
+	
+	/**
+	 * Adds (sign 1) or removes (sign -1) the contribution of a piece on a tile to the accumulator.
+	 */
+	protected abstract void updatePiece(int[] accumulator, PieceType pieceType, Alliance alliance, int tileCoordinate, int sign);
+	
+	protected abstract int evaluate(Board board, int depth, int[] accumulator);
+	
+	/**
+	 * Scores the cheap terms of the board, see BoardEvaluator. Evaluators that declare a lazy margin override this;
+	 * by default everything is evaluated.
+	 */
+	protected int evaluateCheapTerms(final Board board,
+										final int depth,
+										final int[] accumulator) {
+		return evaluate(board, depth, accumulator);
+	}
+	
+	/**
+	 * Returns the lazy margin of the board, see BoardEvaluator. By default there is none.
+	 */
+	protected int getLazyMargin(final Board board,
+								final int[] accumulator) {
+		return NO_LAZY_MARGIN;
+	}
+	
+	@Override
+	public final int evaluate(final Board board,
+								final int depth) {
+		return evaluate(board, depth, accumulator(board));
+	}
+	
+	@Override
+	public final int evaluateCheapTerms(final Board board,
+										final int depth) {
+		return evaluateCheapTerms(board, depth, accumulator(board));
+	}
+	
+	@Override
+	public final int getLazyMargin(final Board board) {
+		return getLazyMargin(board, accumulator(board));
+	}
+	
+	@Override
+	public void makeMove(final Move move,
+							final Board transitionBoard) {
+		if(this.ply < 0 || this.boards[this.ply] != move.getBoard()) {
+			this.ply = 0;
+			this.boards[0] = move.getBoard();
+			refresh(move.getBoard(), this.accumulators[0]);
+		}
+		if(this.ply + 1 == this.boards.length) {
+			grow();
+		}
+		System.arraycopy(this.accumulators[this.ply], 0, this.accumulators[this.ply + 1], 0, this.accumulatorSize);
+		applyMove(this.accumulators[this.ply + 1], move, transitionBoard);
+		this.ply++;
+		this.boards[this.ply] = transitionBoard;
+	}
+	
+	@Override
+	public void unmakeMove() {
+		if(this.ply > 0) {
+			this.boards[this.ply] = null;
+			this.ply--;
+		}
+	}
+	
+	/**
+	 * Applies the delta of a move: the captured piece leaves, the moved piece leaves its tile and arrives
+	 * on its destination (as the promotion piece for a promotion), and a castling rook changes tiles.
+	 */
+	protected void applyMove(final int[] accumulator,
+								final Move move,
+								final Board transitionBoard) {
+		final Piece movedPiece = move.getMovedPiece();
+		final Alliance alliance = movedPiece.getPieceAlliance();
+		if(move.isAttack()) {
+			final Piece attackedPiece = move.getAttackedPiece();
+			updatePiece(accumulator, attackedPiece.getPieceType(), attackedPiece.getPieceAlliance(), 
+						attackedPiece.getPiecePosition(), -1);
+		}
+		final PieceType arrivingType = move instanceof Move.PawnPromotion ? 
+				((Pawn) movedPiece).getPromotionPiece().getPieceType() : movedPiece.getPieceType();
+		updatePiece(accumulator, movedPiece.getPieceType(), alliance, move.getCurrentCoordinate(), -1);
+		updatePiece(accumulator, arrivingType, alliance, move.getDestinationCoordinate(), 1);
+		if(move.isCastlingMove()) {
+			final Move.CastleMove castleMove = (Move.CastleMove) move;
+			updatePiece(accumulator, PieceType.ROOK, alliance, castleMove.getCastleRookStart(), -1);
+			updatePiece(accumulator, PieceType.ROOK, alliance, castleMove.getCastleRookDestination(), 1);
+		}
+	}
+	
+	private int[] accumulator(final Board board) {
+		final int[] accumulator;
+		if(this.ply >= 0 && this.boards[this.ply] == board) {
+			accumulator = this.accumulators[this.ply];
+		} else {
+			refresh(board, this.scratchAccumulator);
+			accumulator = this.scratchAccumulator;
+		}
+		if(this.crossChecking) {
+			crossCheck(board, accumulator);
+		}
+		return accumulator;
+	}
+	
+	protected void refresh(final Board board,
+							final int[] accumulator) {
+		Arrays.fill(accumulator, 0);
+		for(final Piece piece : board.getWhitePieces()) {
+			updatePiece(accumulator, piece.getPieceType(), piece.getPieceAlliance(), piece.getPiecePosition(), 1);
+		}
+		for(final Piece piece : board.getBlackPieces()) {
+			updatePiece(accumulator, piece.getPieceType(), piece.getPieceAlliance(), piece.getPiecePosition(), 1);
+		}
+	}
+	
+	private void crossCheck(final Board board,
+							final int[] accumulator) {
+		final int[] expected = new int[this.accumulatorSize];
+		refresh(board, expected);
+		if(!Arrays.equals(expected, accumulator)) {
+			throw new RuntimeException("Incremental evaluation out of sync: expected " + Arrays.toString(expected) + 
+										" but was " + Arrays.toString(accumulator) + " after " + board.getTransitionMove());
+		}
+	}
+	
+	private void grow() {
+		final int plies = this.boards.length * 2;
+		this.boards = Arrays.copyOf(this.boards, plies);
+		this.accumulators = Arrays.copyOf(this.accumulators, plies);
+		for(int i = 0; i < plies; i++) {
+			if(this.accumulators[i] == null) {
+				this.accumulators[i] = new int[this.accumulatorSize];
+			}
+		}
+	}
+}
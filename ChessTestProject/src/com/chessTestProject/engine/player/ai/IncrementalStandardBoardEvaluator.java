@@ -0,0 +1,56 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.Alliance;
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.pieces.Piece.PieceType;
+
+/**
+ * Scores exactly like StandardBoardEvaluator, but keeps the material balance in an incremental accumulator
+ * instead of summing the piece values of both players at every leaf.
+ */
+public final class IncrementalStandardBoardEvaluator extends IncrementalBoardEvaluator {
+
+	private static final int MATERIAL = 0;
+	private static final int WHITE_MOBILITY = 1;
+	private static final int BLACK_MOBILITY = 2;
+	
+	public IncrementalStandardBoardEvaluator() {
+		this(false);
+	}
+	
+	public IncrementalStandardBoardEvaluator(final boolean crossChecking) {
+		super(BLACK_MOBILITY + 1, crossChecking);
+	}
+	
+	@Override
+	protected void updatePiece(final int[] accumulator,
+								final PieceType pieceType,
+								final Alliance alliance,
+								final int tileCoordinate,
+								final int sign) {
+		accumulator[MATERIAL] += alliance.isWhite() ? sign * pieceType.getPieceValue() : -sign * pieceType.getPieceValue();
+		accumulator[alliance.isWhite() ? WHITE_MOBILITY : BLACK_MOBILITY] += sign * Mobility.maxMobility(pieceType);
+	}
+	
+	@Override
+	protected int getLazyMargin(final Board board,
+								final int[] accumulator) {
+		return Math.max(accumulator[WHITE_MOBILITY], accumulator[BLACK_MOBILITY]) + StandardBoardEvaluator.BONUS_MARGIN;
+	}
+	
+	@Override
+	protected int evaluateCheapTerms(final Board board,
+										final int depth,
+										final int[] accumulator) {
+		return accumulator[MATERIAL];
+	}
+	
+	@Override
+	protected int evaluate(final Board board,
+							final int depth,
+							final int[] accumulator) {
+		return accumulator[MATERIAL] +
+				StandardBoardEvaluator.nonMaterialScore(board, board.whitePlayer(), depth) -
+				StandardBoardEvaluator.nonMaterialScore(board, board.blackPlayer(), depth);
+	}
+}
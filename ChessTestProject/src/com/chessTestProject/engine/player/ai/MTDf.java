@@ -0,0 +1,236 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.player.MoveTransition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MTDf implements MoveStrategy {
+
+	private static final int TRANSPOSITION_TABLE_SIZE = 1 << 18;
+	
+	private final BoardEvaluator boardEvaluator;
+	private final TranspositionTable transpositionTable;
+	private final int searchDepth;
+	private Move rootBestMove;
+	private Move lastRootMove;
+	private SearchCounters searchCounters;
+	private int score;
+	
+	public MTDf(final int searchDepth) {
+		this.boardEvaluator = new IncrementalStandardBoardEvaluator();
+		this.transpositionTable = new TranspositionTable(TRANSPOSITION_TABLE_SIZE);
+		this.searchDepth = searchDepth;
+		this.searchCounters = new SearchCounters();
+	}
+	
+	@Override
+	public String toString() {
+		return "MTD(f)";
+	}
+	
+	/**
+	 * The minimax value of the last completed depth of the last search, from white's point of view.
+	 */
+	public int getScore() {
+		return this.score;
+	}
+	
+	@Override
+	public long getNumNodes() {
+		return this.searchCounters.getNodes();
+	}
+	
+	@Override
+	public Move execute(final Board board) {
+		return search(board).getBestMove();
+	}
+	
+	/**
+	 * Searches the best move and returns it with the statistics of the search, timed at every completed depth.
+	 */
+	public SearchResult search(final Board board) {
+		
+		final long startTime = System.nanoTime();
+		final Map<Integer, Long> depthTimes = new LinkedHashMap<>();
+		
+		Move bestMove = null;
+		int guess = 0;
+		this.searchCounters = new SearchCounters();
+		
+		for(int depth = 1; depth <= this.searchDepth; depth++) {
+			guess = mtdf(board, guess, depth);
+			if(Thread.currentThread().isInterrupted()) {
+				break;
+			}
+			bestMove = this.rootBestMove;
+			this.score = guess;
+			depthTimes.put(depth, System.nanoTime() - startTime);
+		}
+		
+		final long executionTime = System.nanoTime() - startTime;
+		
+		return new SearchResult(bestMove, new SearchStatistics(Collections.singletonList(this.searchCounters), depthTimes, executionTime));
+	}
+	
+	/**
+	 * Converges on the minimax value of the board with a series of zero-window searches, starting from the given guess.
+	 * Every search either raises the lower bound or lowers the upper bound until the two meet.
+	 */
+	private int mtdf(final Board board,
+						final int firstGuess,
+						final int depth) {
+		
+		final boolean isWhite = board.currentPlayer().getAlliance().isWhite();
+		int guess = firstGuess;
+		int lowerBound = Integer.MIN_VALUE;
+		int upperBound = Integer.MAX_VALUE;
+		
+		while(lowerBound < upperBound && !Thread.currentThread().isInterrupted()) {
+			final int beta = guess == lowerBound ? guess + 1 : guess;
+			guess = alphaBeta(board, depth, 0, beta - 1, beta);
+			if(guess < beta) {
+				upperBound = guess;
+				if(!isWhite) {
+					this.rootBestMove = this.lastRootMove;
+				}
+			} else {
+				lowerBound = guess;
+				if(isWhite) {
+					this.rootBestMove = this.lastRootMove;
+				}
+			}
+		}
+		
+		return guess;
+	}
+	
+	private int alphaBeta(final Board board,
+							final int depth,
+							final int ply,
+							int alpha,
+							int beta) {
+		
+		this.searchCounters.countNode(ply);
+		final long key = board.getZobristHash();
+		final int slot = this.transpositionTable.probe(key);
+		this.searchCounters.countProbe(slot != TranspositionTable.NOT_FOUND);
+		int storedLowerBound = Integer.MIN_VALUE;
+		int storedUpperBound = Integer.MAX_VALUE;
+		int storedMove = TranspositionTable.NO_MOVE;
+		
+		if(slot != TranspositionTable.NOT_FOUND) {
+			storedMove = this.transpositionTable.getMove(slot);
+			if(this.transpositionTable.getDepth(slot) >= depth) {
+				storedLowerBound = this.transpositionTable.getLowerBound(slot);
+				storedUpperBound = this.transpositionTable.getUpperBound(slot);
+				if(ply > 0) {
+					if(storedLowerBound >= beta) {
+						return storedLowerBound;
+					}
+					if(storedUpperBound <= alpha) {
+						return storedUpperBound;
+					}
+					alpha = Math.max(alpha, storedLowerBound);
+					beta = Math.min(beta, storedUpperBound);
+				}
+			}
+		}
+		
+		if(depth == 0 || isEndGameScenario(board)) {
+			this.searchCounters.leafNodes++;
+			final int value = this.boardEvaluator.evaluate(board, depth);
+			this.transpositionTable.store(key, depth, value, value, TranspositionTable.NO_MOVE);
+			return value;
+		}
+		
+		final boolean isWhite = board.currentPlayer().getAlliance().isWhite();
+		int bestValue = isWhite ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+		Move bestMove = null;
+		int a = alpha;
+		int b = beta;
+		int numMovesSearched = 0;
+		
+		for(final Move move : orderMoves(board, storedMove)) {
+			if(Thread.currentThread().isInterrupted()) {
+				break;
+			}
+			final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
+			if(moveTransition.getMoveStatus().isDone()) {
+				numMovesSearched++;
+				this.boardEvaluator.makeMove(move, moveTransition.getTransitionBoard());
+				final int currentValue = alphaBeta(moveTransition.getTransitionBoard(), depth - 1, ply + 1, a, b);
+				this.boardEvaluator.unmakeMove();
+				if(isWhite) {
+					if(currentValue > bestValue) {
+						bestValue = currentValue;
+						bestMove = move;
+					}
+					a = Math.max(a, bestValue);
+					if(bestValue >= beta) {
+						this.searchCounters.countCutoff(numMovesSearched);
+						break;
+					}
+				} else {
+					if(currentValue < bestValue) {
+						bestValue = currentValue;
+						bestMove = move;
+					}
+					b = Math.min(b, bestValue);
+					if(bestValue <= alpha) {
+						this.searchCounters.countCutoff(numMovesSearched);
+						break;
+					}
+				}
+			}
+		}
+		
+		// An interrupted node has not seen all its moves, storing its value would leave a wrong bound for the next search.
+		if(Thread.currentThread().isInterrupted()) {
+			return bestValue;
+		}
+		
+		if(ply == 0) {
+			this.lastRootMove = bestMove;
+		}
+		
+		int lowerBound = Integer.MIN_VALUE;
+		int upperBound = Integer.MAX_VALUE;
+		if(slot != TranspositionTable.NOT_FOUND && this.transpositionTable.getDepth(slot) == depth) {
+			lowerBound = storedLowerBound;
+			upperBound = storedUpperBound;
+		}
+		if(bestValue <= alpha) {
+			upperBound = bestValue;
+		} else if(bestValue >= beta) {
+			lowerBound = bestValue;
+		} else {
+			lowerBound = bestValue;
+			upperBound = bestValue;
+		}
+		this.transpositionTable.store(key, depth, lowerBound, upperBound, TranspositionTable.encodeMove(bestMove));
+		
+		return bestValue;
+	}
+	
+	private static List<Move> orderMoves(final Board board,
+											final int storedMove) {
+		final List<Move> orderedMoves = new ArrayList<>(board.currentPlayer().getLegalMoves());
+		final Move hashMove = TranspositionTable.decodeMove(board, storedMove);
+		if(hashMove != null) {
+			orderedMoves.remove(hashMove);
+			orderedMoves.add(0, hashMove);
+		}
+		return orderedMoves;
+	}
+	
+	private static boolean isEndGameScenario(final Board board) {
+		return board.currentPlayer().isInCheckMate() ||
+				board.currentPlayer().isInStaleMate();
+	}
+}
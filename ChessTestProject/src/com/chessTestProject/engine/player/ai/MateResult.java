@@ -0,0 +1,51 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Move;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class MateResult {
+
+	private final List<Move> line;
+	private final int numNodes;
+	
+	MateResult(final List<Move> line,
+				final int numNodes) {
+		this.line = Collections.unmodifiableList(new ArrayList<>(line));
+		this.numNodes = numNodes;
+	}
+	
+	public boolean isMate() {
+		return !this.line.isEmpty();
+	}
+	
+	public int getMateIn() {
+		return (this.line.size() + 1) / 2;
+	}
+	
+	public Move getMove() {
+		return this.line.isEmpty() ? null : this.line.get(0);
+	}
+	
+	public List<Move> getLine() {
+		return this.line;
+	}
+	
+	public int getNumNodes() {
+		return this.numNodes;
+	}
+	
+	@Override
+	public String toString() {
+		if(!isMate()) {
+			return "No mate found";
+		}
+		final StringBuilder builder = new StringBuilder("Mate in " + getMateIn() + ":");
+		for(final Move move : this.line) {
+			builder.append(" ").append(move);
+		}
+		return builder.toString();
+	}
+}
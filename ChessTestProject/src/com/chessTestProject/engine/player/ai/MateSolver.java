@@ -0,0 +1,201 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.player.MoveTransition;
+import com.chessTestProject.engine.player.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Proof-number search for forced mates. The attacker only tries checking moves, the defender tries every legal move.
+ * The mate length is deepened one move at a time, so the first proof found is the shortest mate within the node budget.
+ */
+public final class MateSolver {
+
+	private static final int INFINITY = Integer.MAX_VALUE / 2;
+	private static final int FORCING_KING_MOVES = 2;
+	
+	private final int maxNodes;
+	private int numNodes;
+	
+	public MateSolver(final int maxNodes) {
+		this.maxNodes = maxNodes;
+	}
+	
+	/**
+	 * Searches a forced mate for the player to move in at most maxMoves moves.
+	 * @return MateResult the shortest mate found, with the full line, or an empty result if none was proven.
+	 */
+	public MateResult solve(final Board board,
+							final int maxMoves) {
+		this.numNodes = 0;
+		for(int mateIn = 1; mateIn <= maxMoves; mateIn++) {
+			final Node root = new Node(board, null, null, true, 0);
+			evaluate(root, 2 * mateIn - 1);
+			search(root, 2 * mateIn - 1);
+			if(root.proof == 0) {
+				return new MateResult(extractLine(root), this.numNodes);
+			}
+			if(root.disproof != 0 || Thread.currentThread().isInterrupted()) {
+				break;
+			}
+		}
+		return new MateResult(Collections.emptyList(), this.numNodes);
+	}
+	
+	/**
+	 * Cheap test for positions worth handing to the solver: the opponent's king has almost no squares to go to,
+	 * counting only the squares the player to move does not attack.
+	 */
+	public static boolean isForcingPosition(final Board board) {
+		final Player defender = board.currentPlayer().getOpponent();
+		final long attackedTiles = Mobility.attackedTiles(board, board.currentPlayer().getAlliance());
+		int kingMoves = 0;
+		for(final Move move : defender.getLegalMoves()) {
+			if(move.getMovedPiece().getPieceType().isKing() && 
+					(attackedTiles & (1L << move.getDestinationCoordinate())) == 0) {
+				kingMoves++;
+			}
+		}
+		return kingMoves <= FORCING_KING_MOVES;
+	}
+	
+	private void search(final Node root,
+						final int maxPly) {
+		while(root.proof != 0 && root.disproof != 0 && 
+				this.numNodes < this.maxNodes && !Thread.currentThread().isInterrupted()) {
+			Node mostProving = root;
+			while(mostProving.children != null) {
+				mostProving = selectChild(mostProving);
+			}
+			expand(mostProving, maxPly);
+			for(Node node = mostProving; node != null; node = node.parent) {
+				updateProofNumbers(node);
+			}
+		}
+	}
+	
+	private static Node selectChild(final Node node) {
+		for(final Node child : node.children) {
+			if(node.isOrNode ? child.proof == node.proof : child.disproof == node.disproof) {
+				return child;
+			}
+		}
+		throw new RuntimeException("Should not reach here! No most-proving child!");
+	}
+	
+	private void expand(final Node node,
+						final int maxPly) {
+		node.children = new ArrayList<>();
+		for(final Move move : node.board.currentPlayer().getLegalMoves()) {
+			final MoveTransition moveTransition = node.board.currentPlayer().makeMove(move);
+			if(!moveTransition.getMoveStatus().isDone()) {
+				continue;
+			}
+			final Board childBoard = moveTransition.getTransitionBoard();
+			if(node.isOrNode && !childBoard.currentPlayer().isInCheck()) {
+				continue;
+			}
+			final Node child = new Node(childBoard, node, move, !node.isOrNode, node.ply + 1);
+			evaluate(child, maxPly);
+			node.children.add(child);
+			this.numNodes++;
+		}
+	}
+	
+	private static void evaluate(final Node node,
+									final int maxPly) {
+		if(!node.isOrNode && node.board.currentPlayer().isInCheckMate()) {
+			node.proof = 0;
+			node.disproof = INFINITY;
+		} else if(node.ply >= maxPly || node.board.currentPlayer().isInStaleMate() || 
+					node.isOrNode && node.board.currentPlayer().isInCheckMate()) {
+			node.proof = INFINITY;
+			node.disproof = 0;
+		} else {
+			node.proof = 1;
+			node.disproof = 1;
+		}
+	}
+	
+	private static void updateProofNumbers(final Node node) {
+		if(node.children == null) {
+			return;
+		}
+		if(node.children.isEmpty()) {
+			node.proof = node.isOrNode ? INFINITY : 0;
+			node.disproof = node.isOrNode ? 0 : INFINITY;
+			return;
+		}
+		int minimum = INFINITY;
+		int sum = 0;
+		for(final Node child : node.children) {
+			minimum = Math.min(minimum, node.isOrNode ? child.proof : child.disproof);
+			sum = Math.min(INFINITY, sum + (node.isOrNode ? child.disproof : child.proof));
+		}
+		node.proof = node.isOrNode ? minimum : sum;
+		node.disproof = node.isOrNode ? sum : minimum;
+	}
+	
+	/**
+	 * Follows the proof tree: the attacker takes the quickest proven mate, the defender the longest resistance.
+	 */
+	private static List<Move> extractLine(final Node root) {
+		final List<Move> line = new ArrayList<>();
+		Node node = root;
+		while(node.children != null && !node.children.isEmpty()) {
+			Node next = null;
+			for(final Node child : node.children) {
+				if(child.proof != 0) {
+					continue;
+				}
+				if(next == null || (node.isOrNode ? mateDistance(child) < mateDistance(next) : 
+													mateDistance(child) > mateDistance(next))) {
+					next = child;
+				}
+			}
+			line.add(next.move);
+			node = next;
+		}
+		return line;
+	}
+	
+	private static int mateDistance(final Node node) {
+		if(node.children == null || node.children.isEmpty()) {
+			return 0;
+		}
+		int distance = node.isOrNode ? INFINITY : 0;
+		for(final Node child : node.children) {
+			if(child.proof == 0) {
+				distance = node.isOrNode ? Math.min(distance, mateDistance(child)) : Math.max(distance, mateDistance(child));
+			}
+		}
+		return distance + 1;
+	}
+	
+	private static final class Node {
+		private final Board board;
+		private final Node parent;
+		private final Move move;
+		private final boolean isOrNode;
+		private final int ply;
+		private List<Node> children;
+		private int proof;
+		private int disproof;
+		
+		private Node(final Board board,
+						final Node parent,
+						final Move move,
+						final boolean isOrNode,
+						final int ply) {
+			this.board = board;
+			this.parent = parent;
+			this.move = move;
+			this.isOrNode = isOrNode;
+			this.ply = ply;
+		}
+	}
+}
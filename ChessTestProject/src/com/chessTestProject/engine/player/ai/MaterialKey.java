@@ -0,0 +1,62 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.pieces.Piece;
+
+/**
+ * A key made from the number of pieces of every type and alliance, four bits per count, white in the low half.
+ */
+final class MaterialKey {
+
+	private static final int BITS_PER_COUNT = 4;
+	private static final int NUM_PIECE_TYPES = Piece.PieceType.values().length;
+	private static final String PIECE_LETTERS = "PNBRQK";
+	
+	private MaterialKey() {
+		throw new RuntimeException("Not instantiable!");
+	}
+	
+	static long of(final Board board) {
+		long key = 0L;
+		for(final Piece piece : board.getWhitePieces()) {
+			key += 1L << shift(piece.getPieceType(), true);
+		}
+		for(final Piece piece : board.getBlackPieces()) {
+			key += 1L << shift(piece.getPieceType(), false);
+		}
+		return key;
+	}
+	
+	/**
+	 * Returns the key of a signature such as "KRK" or "KKR": the white pieces, starting with the white king,
+	 * followed by the black pieces, starting with the black king.
+	 */
+	static long of(final String signature) {
+		final int blackKing = signature.indexOf('K', 1);
+		if(signature.charAt(0) != 'K' || blackKing < 0) {
+			throw new RuntimeException("Invalid material signature " + signature);
+		}
+		long key = 0L;
+		for(int i = 0; i < signature.length(); i++) {
+			final int type = PIECE_LETTERS.indexOf(signature.charAt(i));
+			if(type < 0) {
+				throw new RuntimeException("Invalid material signature " + signature);
+			}
+			key += 1L << shift(Piece.PieceType.values()[type], i < blackKing);
+		}
+		return key;
+	}
+	
+	/**
+	 * Returns the signature with the colours swapped, so "KRK" becomes "KKR".
+	 */
+	static String mirror(final String signature) {
+		final int blackKing = signature.indexOf('K', 1);
+		return signature.substring(blackKing) + signature.substring(0, blackKing);
+	}
+	
+	private static int shift(final Piece.PieceType pieceType, 
+								final boolean isWhite) {
+		return BITS_PER_COUNT * (pieceType.ordinal() + (isWhite ? 0 : NUM_PIECE_TYPES));
+	}
+}
@@ -4,14 +4,92 @@ import com.chessTestProject.engine.board.Board;
 import com.chessTestProject.engine.board.Move;
 import com.chessTestProject.engine.player.MoveTransition;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
 public class MiniMax implements MoveStrategy {
 
+	private static final int MATE_SOLVER_MOVES = 3;
+	private static final int TRANSPOSITION_TABLE_SIZE = 1 << 18;
+	private static final int PLIES_PER_SEARCH = 2;
+	
 	private final BoardEvaluator boardEvaluator;
 	private final int searchDepth;
+	private final MateSolver mateSolver;
+	private final FrontierPruning frontierPruning;
+	private final PruningStatistics pruningStatistics;
+	private final TranspositionTable transpositionTable;
+	private final MoveOrderer moveOrderer;
+	private final Tablebase tablebase;
+	private SearchCounters searchCounters;
 	
 	public MiniMax(final int searchDepth) {
-		this.boardEvaluator = new StandardBoardEvaluator();
+		this(searchDepth, null, FrontierPruning.NONE);
+	}
+	
+	public MiniMax(final int searchDepth,
+					final MateSolver mateSolver) {
+		this(searchDepth, mateSolver, FrontierPruning.NONE);
+	}
+	
+	public MiniMax(final int searchDepth,
+					final FrontierPruning frontierPruning) {
+		this(searchDepth, null, frontierPruning);
+	}
+	
+	public MiniMax(final int searchDepth,
+					final BoardEvaluator boardEvaluator) {
+		this(searchDepth, boardEvaluator, null, FrontierPruning.NONE);
+	}
+	
+	public MiniMax(final int searchDepth,
+					final MateSolver mateSolver,
+					final FrontierPruning frontierPruning) {
+		this(searchDepth, new IncrementalStandardBoardEvaluator(), mateSolver, frontierPruning);
+	}
+	
+	public MiniMax(final int searchDepth,
+					final BoardEvaluator boardEvaluator,
+					final Tablebase tablebase) {
+		this(searchDepth, boardEvaluator, null, FrontierPruning.NONE, tablebase);
+	}
+	
+	public MiniMax(final int searchDepth,
+					final BoardEvaluator boardEvaluator,
+					final MateSolver mateSolver,
+					final FrontierPruning frontierPruning) {
+		this(searchDepth, boardEvaluator, mateSolver, frontierPruning, null);
+	}
+	
+	/**
+	 * When a tablebase is given every node below the root whose material it holds is scored by the tablebase
+	 * instead of being searched.
+	 */
+	public MiniMax(final int searchDepth,
+					final BoardEvaluator boardEvaluator,
+					final MateSolver mateSolver,
+					final FrontierPruning frontierPruning,
+					final Tablebase tablebase) {
+		this.boardEvaluator = boardEvaluator;
 		this.searchDepth = searchDepth;
+		this.mateSolver = mateSolver;
+		this.frontierPruning = frontierPruning;
+		this.pruningStatistics = new PruningStatistics();
+		this.transpositionTable = new TranspositionTable(TRANSPOSITION_TABLE_SIZE);
+		this.moveOrderer = new MoveOrderer();
+		this.tablebase = tablebase;
+		this.searchCounters = new SearchCounters();
+	}
+	
+	/**
+	 * The engine the game is played against: the tapered evaluation with known endings and an evaluation cache.
+	 */
+	public static MiniMax createStandardEngine(final int searchDepth) {
+		return new MiniMax(searchDepth, new CachingBoardEvaluator(new EndgameBoardEvaluator(new TaperedBoardEvaluator())));
 	}
 	
 	@Override
@@ -20,9 +98,36 @@ public class MiniMax implements MoveStrategy {
 	}
 	
 	@Override
-	public Move execute(Board board) {
+	public long getNumNodes() {
+		return this.searchCounters.getNodes();
+	}
+	
+	public PruningStatistics getPruningStatistics() {
+		return this.pruningStatistics;
+	}
+	
+	/**
+	 * Forgets everything learned in the previous game: the transposition table, killer moves and history scores.
+	 */
+	public synchronized void newGame() {
+		this.transpositionTable.clear();
+		this.moveOrderer.clear();
+	}
+	
+	@Override
+	public Move execute(final Board board) {
+		return search(board).getBestMove();
+	}
+	
+	/**
+	 * Searches the best move and returns it with the statistics of the search. The transposition table, killer moves
+	 * and history scores are kept between calls, since the next search of a game starts two plies down the tree
+	 * that was just explored. Only a completed search ages the killer moves and history scores, so an interrupted one,
+	 * like a ponder search cancelled by a ponder miss, does not make the search that replaces it age them twice.
+	 */
+	public synchronized SearchResult search(final Board board) {
 		
-		final long startTime = System.currentTimeMillis();
+		final long startTime = System.nanoTime();
 		
 		Move bestMove = null;
 		
@@ -30,70 +135,479 @@ public class MiniMax implements MoveStrategy {
 		int lowestSeenValue = Integer.MAX_VALUE;
 		int currentValue;
 		
-		System.out.println(board.currentPlayer() + "THINKING with depth = " + searchDepth);
+		this.pruningStatistics.reset();
+		this.searchCounters = new SearchCounters();
+		this.transpositionTable.newSearch();
+		
+		if(this.mateSolver != null && MateSolver.isForcingPosition(board)) {
+			final MateResult mateResult = this.mateSolver.solve(board, MATE_SOLVER_MOVES);
+			if(mateResult.isMate()) {
+				this.moveOrderer.age(PLIES_PER_SEARCH);
+				return new SearchResult(mateResult.getMove(), createSearchStatistics(Collections.emptyMap(), System.nanoTime() - startTime));
+			}
+		}
 		
-		int numMoves = board.currentPlayer().getLegalMoves().size();
+		this.searchCounters.countNode(0);
 		
-		for(final Move move : board.currentPlayer().getLegalMoves()) {
+		for(final Move move : this.moveOrderer.orderMoves(board, 0, hashMove(board))) {
+			
+			if(Thread.currentThread().isInterrupted()) {
+				break;
+			}
 			
 			final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
 			if(moveTransition.getMoveStatus().isDone()) {
 				
+				this.boardEvaluator.makeMove(move, moveTransition.getTransitionBoard());
 				currentValue = board.currentPlayer().getAlliance().isWhite() ?
-						min(moveTransition.getTransitionBoard(), searchDepth - 1) :
-							max(moveTransition.getTransitionBoard(), searchDepth - 1);
+						min(moveTransition.getTransitionBoard(), searchDepth - 1, 1, highestSeenValue, Integer.MAX_VALUE, null) :
+							max(moveTransition.getTransitionBoard(), searchDepth - 1, 1, Integer.MIN_VALUE, lowestSeenValue, null);
+				this.boardEvaluator.unmakeMove();
 						
-				if(board.currentPlayer().getAlliance().isWhite() && currentValue >= highestSeenValue) {
+				if(board.currentPlayer().getAlliance().isWhite() && (bestMove == null || currentValue > highestSeenValue)) {
 					highestSeenValue = currentValue;
 					bestMove = move;
-				} else if(board.currentPlayer().getAlliance().isBlack() && currentValue <= lowestSeenValue) {
+				} else if(board.currentPlayer().getAlliance().isBlack() && (bestMove == null || currentValue < lowestSeenValue)) {
 					lowestSeenValue = currentValue;
 					bestMove = move;
 				}
 			}
 		}
 		
-		final long executionTime = System.currentTimeMillis() - startTime;
+		if(bestMove != null && !Thread.currentThread().isInterrupted()) {
+			final int bestValue = board.currentPlayer().getAlliance().isWhite() ? highestSeenValue : lowestSeenValue;
+			this.transpositionTable.store(board.getZobristHash(), this.searchDepth, bestValue, bestValue, 
+											TranspositionTable.encodeMove(bestMove));
+		}
+		if(!Thread.currentThread().isInterrupted()) {
+			this.moveOrderer.age(PLIES_PER_SEARCH);
+		}
 		
-		return bestMove;
+		final long executionTime = System.nanoTime() - startTime;
+		
+		return new SearchResult(bestMove, createSearchStatistics(Thread.currentThread().isInterrupted() ? 
+				Collections.emptyMap() : Collections.singletonMap(this.searchDepth, executionTime), executionTime));
+	}
+	
+	/**
+	 * Searches the best numLines root moves, each with its score (from white's point of view) and principal variation.
+	 * Every pass excludes the moves reported by the earlier passes and is bounded by the previous line's score,
+	 * since none of the remaining moves can be better than the line that was reported before it.
+	 */
+	public synchronized MultiPVResult analyse(final Board board,
+									final int numLines) {
+		
+		this.pruningStatistics.reset();
+		this.searchCounters = new SearchCounters();
+		
+		final List<PrincipalVariation> lines = new ArrayList<>();
+		final Collection<Move> reportedMoves = new HashSet<>();
+		final boolean isWhite = board.currentPlayer().getAlliance().isWhite();
+		
+		int alpha = Integer.MIN_VALUE;
+		int beta = Integer.MAX_VALUE;
+		
+		while(lines.size() < numLines) {
+			final PrincipalVariation line = analyseRoot(board, reportedMoves, alpha, beta);
+			if(line == null) {
+				break;
+			}
+			lines.add(line);
+			reportedMoves.add(line.getMove());
+			if(isWhite) {
+				beta = line.getScore() + 1;
+			} else {
+				alpha = line.getScore() - 1;
+			}
+		}
+		
+		return new MultiPVResult(lines);
+	}
+	
+	private PrincipalVariation analyseRoot(final Board board,
+											final Collection<Move> excludedMoves,
+											int alpha,
+											int beta) {
+		
+		final boolean isWhite = board.currentPlayer().getAlliance().isWhite();
+		PrincipalVariation bestLine = null;
+		this.searchCounters.countNode(0);
+		
+		for(final Move move : this.moveOrderer.orderMoves(board, 0, hashMove(board))) {
+			if(Thread.currentThread().isInterrupted()) {
+				break;
+			}
+			if(excludedMoves.contains(move)) {
+				continue;
+			}
+			final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
+			if(moveTransition.getMoveStatus().isDone()) {
+				final List<Move> line = new ArrayList<>();
+				line.add(move);
+				this.boardEvaluator.makeMove(move, moveTransition.getTransitionBoard());
+				final int currentValue = isWhite ?
+						min(moveTransition.getTransitionBoard(), searchDepth - 1, 1, alpha, beta, line) :
+							max(moveTransition.getTransitionBoard(), searchDepth - 1, 1, alpha, beta, line);
+				this.boardEvaluator.unmakeMove();
+						
+				if(isWhite && (bestLine == null || currentValue > bestLine.getScore())) {
+					bestLine = new PrincipalVariation(currentValue, line);
+					alpha = Math.max(alpha, currentValue);
+				} else if(!isWhite && (bestLine == null || currentValue < bestLine.getScore())) {
+					bestLine = new PrincipalVariation(currentValue, line);
+					beta = Math.min(beta, currentValue);
+				}
+			}
+		}
+		
+		return bestLine;
+	}
+	
+	/**
+	 * Returns the legal move the transposition table holds for the board, or null when it holds none. A search stores
+	 * the best move of the nodes it finishes, so after a search this predicts the reply to the move it chose.
+	 */
+	public synchronized Move getHashMove(final Board board) {
+		final Move hashMove = TranspositionTable.decodeMove(board, hashMove(board));
+		return hashMove != null && board.currentPlayer().makeMove(hashMove).getMoveStatus().isDone() ? hashMove : null;
 	}
 	
 	public int min(final Board board, 
 					final int depth) {
-		if(depth == 0 || isEndGameScenario(board)) {
+		return min(board, depth, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, null);
+	}
+	
+	public int max(final Board board, 
+					final int depth) {
+		return max(board, depth, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, null);
+	}
+	
+	/**
+	 * Alpha-beta search for the minimizing (black) side. When line is not null the principal variation is appended
+	 * to it and both frontier pruning and transposition table cutoffs are switched off, so analysis lines are exact.
+	 */
+	private int min(final Board board,
+					int depth,
+					final int ply,
+					final int alpha,
+					int beta,
+					final List<Move> line) {
+		this.pruningStatistics.nodes++;
+		this.searchCounters.countNode(ply);
+		final int tablebaseValue = probeTablebase(board, ply);
+		if(tablebaseValue != Tablebase.NOT_FOUND) {
+			return tablebaseValue;
+		}
+		if(depth <= 0) {
+			this.searchCounters.leafNodes++;
+			return evaluate(board, depth, alpha, beta);
+		}
+		if(isEndGameScenario(board)) {
+			this.searchCounters.leafNodes++;
 			return this.boardEvaluator.evaluate(board, depth);
 		}
 		
+		final int slot = this.transpositionTable.probe(board.getZobristHash());
+		this.searchCounters.countProbe(slot != TranspositionTable.NOT_FOUND);
+		if(line == null && slot != TranspositionTable.NOT_FOUND && this.transpositionTable.getDepth(slot) >= depth) {
+			if(this.transpositionTable.getLowerBound(slot) >= beta) {
+				return this.transpositionTable.getLowerBound(slot);
+			}
+			if(this.transpositionTable.getUpperBound(slot) <= alpha) {
+				return this.transpositionTable.getUpperBound(slot);
+			}
+		}
+		final int originalBeta = beta;
+		
+		final boolean isFrontierNode = line == null && this.frontierPruning.isEnabled() &&
+				depth <= this.frontierPruning.getMaxDepth() && !board.currentPlayer().isInCheck();
+		int staticValue = 0;
+		if(isFrontierNode) {
+			staticValue = this.boardEvaluator.evaluate(board, depth);
+			if(this.frontierPruning.isRazoring() && 
+					staticValue - this.frontierPruning.getRazorMargin(depth) >= beta) {
+				this.pruningStatistics.razorings++;
+				if(depth == 1) {
+					return staticValue;
+				}
+				depth--;
+			}
+		}
+		
 		int lowestSeenValue = Integer.MAX_VALUE;
-		for(final Move move : board.currentPlayer().getLegalMoves()) {
+		int numQuietMoves = 0;
+		int numMovesSearched = 0;
+		List<Move> bestChildLine = null;
+		Move bestMove = null;
+		final int hashMove = slot != TranspositionTable.NOT_FOUND ? this.transpositionTable.getMove(slot) : TranspositionTable.NO_MOVE;
+		for(final Move move : this.moveOrderer.orderMoves(board, ply, hashMove)) {
+			if(Thread.currentThread().isInterrupted()) {
+				break;
+			}
+			final boolean isQuietMove = isQuietMove(move);
+			if(isFrontierNode && isQuietMove) {
+				if(this.frontierPruning.isFutilityPruning() && 
+						staticValue - this.frontierPruning.getFutilityMargin(depth) >= beta) {
+					this.pruningStatistics.futilityPrunes++;
+					verifyPrune(board, move, depth, ply, alpha, beta);
+					continue;
+				}
+				if(this.frontierPruning.isLateMovePruning() && 
+						numQuietMoves >= this.frontierPruning.getLateMoveCount(depth)) {
+					this.pruningStatistics.lateMovePrunes++;
+					verifyPrune(board, move, depth, ply, alpha, beta);
+					continue;
+				}
+			}
 			final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
 			if(moveTransition.getMoveStatus().isDone()) {
-				final int currentValue = max(moveTransition.getTransitionBoard(), depth -1);
-				if(currentValue <= lowestSeenValue) {
+				numMovesSearched++;
+				if(isQuietMove) {
+					numQuietMoves++;
+				}
+				final List<Move> childLine = line == null ? null : new ArrayList<>();
+				if(childLine != null) {
+					childLine.add(move);
+				}
+				this.boardEvaluator.makeMove(move, moveTransition.getTransitionBoard());
+				final int currentValue = max(moveTransition.getTransitionBoard(), depth - 1, ply + 1, alpha, beta, childLine);
+				this.boardEvaluator.unmakeMove();
+				if(currentValue < lowestSeenValue) {
 					lowestSeenValue = currentValue;
+					bestChildLine = childLine;
+					bestMove = move;
+				}
+				beta = Math.min(beta, currentValue);
+				if(beta <= alpha) {
+					this.searchCounters.countCutoff(numMovesSearched);
+					this.moveOrderer.recordCutoff(move, ply, depth);
+					break;
 				}
 			}
 		}
-		return lowestSeenValue;		
+		if(lowestSeenValue == Integer.MAX_VALUE && isFrontierNode) {
+			return staticValue;
+		}
+		if(bestChildLine != null) {
+			line.addAll(bestChildLine);
+		}
+		storeBounds(board, depth, lowestSeenValue, alpha, originalBeta, bestMove);
+		return lowestSeenValue;
 	}
 	
-	public int max(final Board board, 
-					final int depth) {
-		if(depth == 0 || isEndGameScenario(board)) {
+	/**
+	 * Alpha-beta search for the maximizing (white) side, the mirror image of min.
+	 */
+	private int max(final Board board,
+					int depth,
+					final int ply,
+					int alpha,
+					final int beta,
+					final List<Move> line) {
+		this.pruningStatistics.nodes++;
+		this.searchCounters.countNode(ply);
+		final int tablebaseValue = probeTablebase(board, ply);
+		if(tablebaseValue != Tablebase.NOT_FOUND) {
+			return tablebaseValue;
+		}
+		if(depth <= 0) {
+			this.searchCounters.leafNodes++;
+			return evaluate(board, depth, alpha, beta);
+		}
+		if(isEndGameScenario(board)) {
+			this.searchCounters.leafNodes++;
 			return this.boardEvaluator.evaluate(board, depth);
 		}
 		
+		final int slot = this.transpositionTable.probe(board.getZobristHash());
+		this.searchCounters.countProbe(slot != TranspositionTable.NOT_FOUND);
+		if(line == null && slot != TranspositionTable.NOT_FOUND && this.transpositionTable.getDepth(slot) >= depth) {
+			if(this.transpositionTable.getLowerBound(slot) >= beta) {
+				return this.transpositionTable.getLowerBound(slot);
+			}
+			if(this.transpositionTable.getUpperBound(slot) <= alpha) {
+				return this.transpositionTable.getUpperBound(slot);
+			}
+		}
+		final int originalAlpha = alpha;
+		
+		final boolean isFrontierNode = line == null && this.frontierPruning.isEnabled() &&
+				depth <= this.frontierPruning.getMaxDepth() && !board.currentPlayer().isInCheck();
+		int staticValue = 0;
+		if(isFrontierNode) {
+			staticValue = this.boardEvaluator.evaluate(board, depth);
+			if(this.frontierPruning.isRazoring() && 
+					staticValue + this.frontierPruning.getRazorMargin(depth) <= alpha) {
+				this.pruningStatistics.razorings++;
+				if(depth == 1) {
+					return staticValue;
+				}
+				depth--;
+			}
+		}
+		
 		int highestSeenValue = Integer.MIN_VALUE;
-		for(final Move move : board.currentPlayer().getLegalMoves()) {
+		int numQuietMoves = 0;
+		int numMovesSearched = 0;
+		List<Move> bestChildLine = null;
+		Move bestMove = null;
+		final int hashMove = slot != TranspositionTable.NOT_FOUND ? this.transpositionTable.getMove(slot) : TranspositionTable.NO_MOVE;
+		for(final Move move : this.moveOrderer.orderMoves(board, ply, hashMove)) {
+			if(Thread.currentThread().isInterrupted()) {
+				break;
+			}
+			final boolean isQuietMove = isQuietMove(move);
+			if(isFrontierNode && isQuietMove) {
+				if(this.frontierPruning.isFutilityPruning() && 
+						staticValue + this.frontierPruning.getFutilityMargin(depth) <= alpha) {
+					this.pruningStatistics.futilityPrunes++;
+					verifyPrune(board, move, depth, ply, alpha, beta);
+					continue;
+				}
+				if(this.frontierPruning.isLateMovePruning() && 
+						numQuietMoves >= this.frontierPruning.getLateMoveCount(depth)) {
+					this.pruningStatistics.lateMovePrunes++;
+					verifyPrune(board, move, depth, ply, alpha, beta);
+					continue;
+				}
+			}
 			final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
 			if(moveTransition.getMoveStatus().isDone()) {
-				final int currentValue = min(moveTransition.getTransitionBoard(), depth -1);
-				if(currentValue >= highestSeenValue) {
+				numMovesSearched++;
+				if(isQuietMove) {
+					numQuietMoves++;
+				}
+				final List<Move> childLine = line == null ? null : new ArrayList<>();
+				if(childLine != null) {
+					childLine.add(move);
+				}
+				this.boardEvaluator.makeMove(move, moveTransition.getTransitionBoard());
+				final int currentValue = min(moveTransition.getTransitionBoard(), depth - 1, ply + 1, alpha, beta, childLine);
+				this.boardEvaluator.unmakeMove();
+				if(currentValue > highestSeenValue) {
 					highestSeenValue = currentValue;
+					bestChildLine = childLine;
+					bestMove = move;
+				}
+				alpha = Math.max(alpha, currentValue);
+				if(alpha >= beta) {
+					this.searchCounters.countCutoff(numMovesSearched);
+					this.moveOrderer.recordCutoff(move, ply, depth);
+					break;
 				}
 			}
 		}
-		return highestSeenValue;		
+		if(highestSeenValue == Integer.MIN_VALUE && isFrontierNode) {
+			return staticValue;
+		}
+		if(bestChildLine != null) {
+			line.addAll(bestChildLine);
+		}
+		storeBounds(board, depth, highestSeenValue, originalAlpha, beta, bestMove);
+		return highestSeenValue;
+	}
+	
+	/**
+	 * When verification is switched on, searches a pruned move anyway and counts the prune as unsafe
+	 * if the move would have improved the score of the side to move.
+	 */
+	private void verifyPrune(final Board board,
+								final Move move,
+								final int depth,
+								final int ply,
+								final int alpha,
+								final int beta) {
+		if(!this.frontierPruning.isVerifying()) {
+			return;
+		}
+		final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
+		if(!moveTransition.getMoveStatus().isDone()) {
+			return;
+		}
+		final PruningStatistics statistics = new PruningStatistics();
+		statistics.copyFrom(this.pruningStatistics);
+		final SearchCounters searchCounters = this.searchCounters;
+		this.searchCounters = new SearchCounters();
+		this.boardEvaluator.makeMove(move, moveTransition.getTransitionBoard());
+		final boolean isUnsafe = board.currentPlayer().getAlliance().isWhite() ?
+				min(moveTransition.getTransitionBoard(), depth - 1, ply + 1, alpha, beta, null) > alpha :
+					max(moveTransition.getTransitionBoard(), depth - 1, ply + 1, alpha, beta, null) < beta;
+		this.boardEvaluator.unmakeMove();
+		this.pruningStatistics.copyFrom(statistics);
+		this.searchCounters = searchCounters;
+		if(isUnsafe) {
+			this.pruningStatistics.unsafePrunes++;
+		}
+	}
+	
+	private static boolean isQuietMove(final Move move) {
+		return !move.isAttack() && !move.isCastlingMove() && !(move instanceof Move.PawnPromotion);
+	}
+	
+	/**
+	 * Stores the result of a node as a lower bound, an upper bound or an exact value, depending on the window it was searched with.
+	 * Interrupted searches are not stored, since their values are incomplete.
+	 */
+	private void storeBounds(final Board board,
+								final int depth,
+								final int value,
+								final int alpha,
+								final int beta,
+								final Move bestMove) {
+		if(bestMove == null || Thread.currentThread().isInterrupted()) {
+			return;
+		}
+		final int lowerBound = value > alpha ? value : Integer.MIN_VALUE;
+		final int upperBound = value < beta ? value : Integer.MAX_VALUE;
+		this.transpositionTable.store(board.getZobristHash(), depth, lowerBound, upperBound, TranspositionTable.encodeMove(bestMove));
+	}
+	
+	/**
+	 * Evaluates a leaf in two stages: when the cheap terms lie further outside the window than the evaluator's lazy margin,
+	 * the bound they give is returned without computing the expensive terms, the checkmate probe among them. A side in check
+	 * may be mated, so it is always evaluated in full. Leaves are not probed for mate or stalemate before this; only
+	 * interior nodes are, through isEndGameScenario, since they have to know whether there are moves to search.
+	 */
+	private int evaluate(final Board board,
+							final int depth,
+							final int alpha,
+							final int beta) {
+		final int lazyMargin = board.currentPlayer().isInCheck() ? 
+				BoardEvaluator.NO_LAZY_MARGIN : this.boardEvaluator.getLazyMargin(board);
+		if(lazyMargin != BoardEvaluator.NO_LAZY_MARGIN) {
+			final int cheapValue = this.boardEvaluator.evaluateCheapTerms(board, depth);
+			if(cheapValue - lazyMargin >= beta) {
+				this.pruningStatistics.lazyEvaluations++;
+				return cheapValue - lazyMargin;
+			}
+			if(cheapValue + lazyMargin <= alpha) {
+				this.pruningStatistics.lazyEvaluations++;
+				return cheapValue + lazyMargin;
+			}
+		}
+		return this.boardEvaluator.evaluate(board, depth);
+	}
+	
+	private SearchStatistics createSearchStatistics(final Map<Integer, Long> depthTimes,
+														final long time) {
+		return new SearchStatistics(Collections.singletonList(this.searchCounters), depthTimes, time);
+	}
+	
+	private int probeTablebase(final Board board,
+								final int ply) {
+		if(this.tablebase == null || ply == 0) {
+			return Tablebase.NOT_FOUND;
+		}
+		final int value = this.tablebase.probe(board);
+		if(value != Tablebase.NOT_FOUND) {
+			this.pruningStatistics.tablebaseHits++;
+		}
+		return value;
+	}
+	
+	private int hashMove(final Board board) {
+		final int slot = this.transpositionTable.probe(board.getZobristHash());
+		return slot != TranspositionTable.NOT_FOUND ? this.transpositionTable.getMove(slot) : TranspositionTable.NO_MOVE;
 	}
 
 	private static boolean isEndGameScenario(final Board board) {
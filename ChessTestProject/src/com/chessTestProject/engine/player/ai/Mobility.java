@@ -0,0 +1,226 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.Alliance;
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.BoardUtils;
+import com.chessTestProject.engine.pieces.Piece;
+import com.chessTestProject.engine.pieces.Piece.PieceType;
+
+import java.util.Collection;
+
+/**
+ * Counts the pseudo-legal destinations of knights, bishops, rooks and queens that are not attacked by an enemy pawn,
+ * straight from the tiles of the board and precomputed attack tables, without generating any moves.
+ */
+final class Mobility {
+
+	/**
+	 * The most destinations a piece can have, on an empty board, indexed by piece type.
+	 */
+	private static final int[] MAX_MOBILITY = {0, 8, 13, 14, 27, 0};
+
+	private static final int[][] KNIGHT_OFFSETS = {{-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}};
+	private static final int[][] KING_OFFSETS = {{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}};
+	private static final int[][] ROOK_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+	private static final int[][] BISHOP_DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+	
+	private static final long[] KNIGHT_ATTACKS = initAttacks(KNIGHT_OFFSETS);
+	private static final long[] KING_ATTACKS = initAttacks(KING_OFFSETS);
+	private static final long[][] PAWN_ATTACKS = initPawnAttacks();
+	private static final int[][][] ROOK_RAYS = initRays(ROOK_DIRECTIONS);
+	private static final int[][][] BISHOP_RAYS = initRays(BISHOP_DIRECTIONS);
+	
+	private Mobility() {
+		throw new RuntimeException("Not instantiable!");
+	}
+	
+	/**
+	 * Returns the mobility of white minus the mobility of black.
+	 */
+	static int balance(final Board board) {
+		return count(board, Alliance.WHITE) - count(board, Alliance.BLACK);
+	}
+	
+	/**
+	 * Returns a hard bound on the mobility of a piece of the given type.
+	 */
+	static int maxMobility(final PieceType pieceType) {
+		return MAX_MOBILITY[pieceType.ordinal()];
+	}
+	
+	/**
+	 * Returns a hard bound on the absolute balance of the board: both counts lie between zero and the sum of the
+	 * bounds of their pieces, so the balance cannot exceed the larger sum.
+	 */
+	static int maxBalance(final Board board) {
+		return Math.max(maxMobility(board.getWhitePieces()), maxMobility(board.getBlackPieces()));
+	}
+	
+	/**
+	 * Returns the tiles attacked by the pieces of an alliance, empty or occupied by a piece of either side. The enemy king
+	 * does not block the lines of the sliding pieces, so the tiles behind it count as attacked, as they are for a king
+	 * that steps back along the line.
+	 */
+	static long attackedTiles(final Board board,
+								final Alliance alliance) {
+		long blockers = 0L;
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++) {
+			final Piece piece = board.getTile(tile).getPiece();
+			if(piece != null && (!piece.getPieceType().isKing() || piece.getPieceAlliance() == alliance)) {
+				blockers |= 1L << tile;
+			}
+		}
+		long attacks = 0L;
+		for(final Piece piece : alliance.isWhite() ? board.getWhitePieces() : board.getBlackPieces()) {
+			final int tile = piece.getPiecePosition();
+			switch(piece.getPieceType()) {
+				case PAWN:
+					attacks |= PAWN_ATTACKS[alliance.isWhite() ? 0 : 1][tile];
+					break;
+				case KNIGHT:
+					attacks |= KNIGHT_ATTACKS[tile];
+					break;
+				case BISHOP:
+					attacks |= rayAttacks(BISHOP_RAYS[tile], blockers);
+					break;
+				case ROOK:
+					attacks |= rayAttacks(ROOK_RAYS[tile], blockers);
+					break;
+				case QUEEN:
+					attacks |= rayAttacks(BISHOP_RAYS[tile], blockers) | rayAttacks(ROOK_RAYS[tile], blockers);
+					break;
+				case KING:
+					attacks |= KING_ATTACKS[tile];
+					break;
+			}
+		}
+		return attacks;
+	}
+	
+	static int count(final Board board,
+						final Alliance alliance) {
+		long ownPieces = 0L;
+		long allPieces = 0L;
+		long enemyPawnAttacks = 0L;
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++) {
+			final Piece piece = board.getTile(tile).getPiece();
+			if(piece == null) {
+				continue;
+			}
+			allPieces |= 1L << tile;
+			if(piece.getPieceAlliance() == alliance) {
+				ownPieces |= 1L << tile;
+			} else if(piece.getPieceType() == Piece.PieceType.PAWN) {
+				enemyPawnAttacks |= PAWN_ATTACKS[piece.getPieceAlliance().isWhite() ? 0 : 1][tile];
+			}
+		}
+		final long unsafe = ownPieces | enemyPawnAttacks;
+		int mobility = 0;
+		for(long pieces = ownPieces; pieces != 0; pieces &= pieces - 1) {
+			final int tile = Long.numberOfTrailingZeros(pieces);
+			switch(board.getTile(tile).getPiece().getPieceType()) {
+				case KNIGHT:
+					mobility += Long.bitCount(KNIGHT_ATTACKS[tile] & ~unsafe);
+					break;
+				case BISHOP:
+					mobility += countRays(BISHOP_RAYS[tile], allPieces, unsafe);
+					break;
+				case ROOK:
+					mobility += countRays(ROOK_RAYS[tile], allPieces, unsafe);
+					break;
+				case QUEEN:
+					mobility += countRays(BISHOP_RAYS[tile], allPieces, unsafe) + countRays(ROOK_RAYS[tile], allPieces, unsafe);
+					break;
+				default:
+					break;
+			}
+		}
+		return mobility;
+	}
+	
+	private static int maxMobility(final Collection<Piece> pieces) {
+		int maxMobility = 0;
+		for(final Piece piece : pieces) {
+			maxMobility += maxMobility(piece.getPieceType());
+		}
+		return maxMobility;
+	}
+	
+	private static long rayAttacks(final int[][] rays,
+									final long blockers) {
+		long attacks = 0L;
+		for(final int[] ray : rays) {
+			for(final int tile : ray) {
+				attacks |= 1L << tile;
+				if((blockers & (1L << tile)) != 0) {
+					break;
+				}
+			}
+		}
+		return attacks;
+	}
+	
+	private static int countRays(final int[][] rays,
+									final long allPieces,
+									final long unsafe) {
+		int mobility = 0;
+		for(final int[] ray : rays) {
+			for(final int tile : ray) {
+				if((unsafe & (1L << tile)) == 0) {
+					mobility++;
+				}
+				if((allPieces & (1L << tile)) != 0) {
+					break;
+				}
+			}
+		}
+		return mobility;
+	}
+	
+	private static long[] initAttacks(final int[][] offsets) {
+		final long[] attacks = new long[BoardUtils.NUM_TILES];
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++) {
+			for(final int[] offset : offsets) {
+				attacks[tile] |= tileMask(tile, offset[0], offset[1]);
+			}
+		}
+		return attacks;
+	}
+	
+	private static long[][] initPawnAttacks() {
+		final long[][] attacks = new long[2][BoardUtils.NUM_TILES];
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++) {
+			attacks[0][tile] = tileMask(tile, -1, -1) | tileMask(tile, -1, 1);
+			attacks[1][tile] = tileMask(tile, 1, -1) | tileMask(tile, 1, 1);
+		}
+		return attacks;
+	}
+	
+	private static int[][][] initRays(final int[][] directions) {
+		final int[][][] rays = new int[BoardUtils.NUM_TILES][directions.length][];
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++) {
+			for(int d = 0; d < directions.length; d++) {
+				int length = 0;
+				while(tileMask(tile, directions[d][0] * (length + 1), directions[d][1] * (length + 1)) != 0) {
+					length++;
+				}
+				rays[tile][d] = new int[length];
+				for(int i = 0; i < length; i++) {
+					rays[tile][d][i] = tile + (directions[d][0] * BoardUtils.NUM_TILES_PER_ROW + directions[d][1]) * (i + 1);
+				}
+			}
+		}
+		return rays;
+	}
+	
+	private static long tileMask(final int tile,
+									final int rowOffset,
+									final int columnOffset) {
+		final int row = tile / BoardUtils.NUM_TILES_PER_ROW + rowOffset;
+		final int column = tile % BoardUtils.NUM_TILES_PER_ROW + columnOffset;
+		if(row < 0 || row >= BoardUtils.NUM_TILES_PER_ROW || column < 0 || column >= BoardUtils.NUM_TILES_PER_ROW) {
+			return 0L;
+		}
+		return 1L << (row * BoardUtils.NUM_TILES_PER_ROW + column);
+	}
+}
@@ -0,0 +1,342 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.player.MoveTransition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Monte Carlo tree search with UCT selection. Every worker thread runs its own iterations on the shared tree and
+ * marks the path it is descending with a virtual loss, so other threads spread out over different branches.
+ * Nodes live in primitive arrays indexed by node number; children of a node are stored next to each other.
+ */
+public class MonteCarloTreeSearch implements MoveStrategy {
+
+	public static final int DEFAULT_MAX_NODES = 1 << 18;
+	private static final int MAX_PLY = 256;
+	private static final int ROLLOUT_DEPTH = 4;
+	private static final double EXPLORATION = 1.4;
+	private static final double SCORE_SCALE = 400.0;
+	private static final long VALUE_SCALE = 1_000_000L;
+	
+	private static final int UNEXPANDED = 0;
+	private static final int EXPANDING = 1;
+	private static final int EXPANDED = 2;
+	private static final int TERMINAL = 3;
+	private static final int LEAF = 4;
+	
+	private final BoardEvaluator boardEvaluator;
+	private final long thinkTimeMillis;
+	private final int numThreads;
+	private final int maxNodes;
+	
+	private final int[] firstChild;
+	private final int[] numChildren;
+	private final short[] moves;
+	private final AtomicIntegerArray states;
+	private final AtomicIntegerArray visits;
+	private final AtomicIntegerArray virtualLosses;
+	private final AtomicLongArray valueSums;
+	private final AtomicInteger numNodes;
+	
+	public MonteCarloTreeSearch(final long thinkTimeMillis) {
+		this(thinkTimeMillis, Runtime.getRuntime().availableProcessors());
+	}
+	
+	public MonteCarloTreeSearch(final long thinkTimeMillis,
+								final int numThreads) {
+		this(thinkTimeMillis, numThreads, DEFAULT_MAX_NODES);
+	}
+	
+	/**
+	 * @param maxNodes the capacity of the tree. Once it is full the search goes on with rollouts from the nodes it has.
+	 */
+	public MonteCarloTreeSearch(final long thinkTimeMillis,
+								final int numThreads,
+								final int maxNodes) {
+		this.boardEvaluator = new StandardBoardEvaluator();
+		this.thinkTimeMillis = thinkTimeMillis;
+		this.numThreads = Math.max(1, numThreads);
+		this.maxNodes = maxNodes;
+		this.firstChild = new int[maxNodes];
+		this.numChildren = new int[maxNodes];
+		this.moves = new short[maxNodes];
+		this.states = new AtomicIntegerArray(maxNodes);
+		this.visits = new AtomicIntegerArray(maxNodes);
+		this.virtualLosses = new AtomicIntegerArray(maxNodes);
+		this.valueSums = new AtomicLongArray(maxNodes);
+		this.numNodes = new AtomicInteger();
+	}
+	
+	@Override
+	public String toString() {
+		return "MCTS";
+	}
+	
+	@Override
+	public Move execute(final Board board) {
+		return search(board).getBestMove();
+	}
+	
+	/**
+	 * Searches until the think time is up and returns the most visited move with the statistics of the search,
+	 * merged from the counters of every worker. A node is counted every time an iteration passes it, and the nodes
+	 * an iteration ends on, where it rolls out or finds a terminal position, are the leaves.
+	 */
+	public SearchResult search(final Board board) {
+		
+		final long startTime = System.nanoTime();
+		resetTree();
+		final long deadline = System.currentTimeMillis() + this.thinkTimeMillis;
+		final ExecutorService executor = Executors.newFixedThreadPool(this.numThreads);
+		final List<Future<?>> workers = new ArrayList<>();
+		final List<SearchCounters> workerCounters = new ArrayList<>();
+		
+		for(int i = 0; i < this.numThreads; i++) {
+			final SearchCounters searchCounters = new SearchCounters();
+			workerCounters.add(searchCounters);
+			workers.add(executor.submit(() -> {
+				final Random random = ThreadLocalRandom.current();
+				final int[] path = new int[MAX_PLY];
+				while(System.currentTimeMillis() < deadline && !Thread.currentThread().isInterrupted()) {
+					runIteration(board, path, random, searchCounters);
+				}
+			}));
+		}
+		
+		try {
+			for(final Future<?> worker : workers) {
+				worker.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+		
+		return new SearchResult(mostVisitedMove(board), 
+				new SearchStatistics(workerCounters, Collections.emptyMap(), System.nanoTime() - startTime));
+	}
+	
+	@Override
+	public long getNumNodes() {
+		return Math.min(this.numNodes.get(), this.maxNodes);
+	}
+	
+	public int getMaxNodes() {
+		return this.maxNodes;
+	}
+	
+	public int getNumRollouts() {
+		return this.visits.get(0);
+	}
+	
+	private void resetTree() {
+		final int usedNodes = Math.min(this.numNodes.get(), this.maxNodes);
+		for(int node = 0; node < usedNodes; node++) {
+			this.states.set(node, UNEXPANDED);
+			this.visits.set(node, 0);
+			this.virtualLosses.set(node, 0);
+			this.valueSums.set(node, 0L);
+		}
+		this.numNodes.set(1);
+	}
+	
+	private void runIteration(final Board rootBoard,
+								final int[] path,
+								final Random random,
+								final SearchCounters searchCounters) {
+		
+		final boolean rootIsWhite = rootBoard.currentPlayer().getAlliance().isWhite();
+		Board board = rootBoard;
+		int node = 0;
+		int ply = 0;
+		double whiteValue;
+		
+		while(true) {
+			searchCounters.countNode(ply);
+			final int state = this.states.get(node);
+			if(state == TERMINAL) {
+				searchCounters.leafNodes++;
+				whiteValue = terminalValue(board);
+				break;
+			}
+			if(state == EXPANDED && ply < MAX_PLY) {
+				node = selectChild(node);
+				this.virtualLosses.incrementAndGet(node);
+				path[ply++] = node;
+				board = playEncodedMove(board, this.moves[node]);
+				continue;
+			}
+			if(state == UNEXPANDED && this.states.compareAndSet(node, UNEXPANDED, EXPANDING)) {
+				expand(node, board);
+				if(this.states.get(node) == TERMINAL) {
+					searchCounters.leafNodes++;
+					whiteValue = terminalValue(board);
+					break;
+				}
+			}
+			searchCounters.leafNodes++;
+			whiteValue = rollout(board, random);
+			break;
+		}
+		
+		this.visits.incrementAndGet(0);
+		for(int i = 0; i < ply; i++) {
+			final boolean moverIsWhite = (i % 2 == 0) == rootIsWhite;
+			final double moverValue = moverIsWhite ? whiteValue : 1.0 - whiteValue;
+			this.valueSums.addAndGet(path[i], (long) (moverValue * VALUE_SCALE));
+			this.visits.incrementAndGet(path[i]);
+			this.virtualLosses.decrementAndGet(path[i]);
+		}
+	}
+	
+	private int selectChild(final int node) {
+		final int first = this.firstChild[node];
+		final int last = first + this.numChildren[node];
+		final double logParentVisits = Math.log(Math.max(1, this.visits.get(node) + this.virtualLosses.get(node)));
+		
+		int bestChild = first;
+		double bestScore = Double.NEGATIVE_INFINITY;
+		for(int child = first; child < last; child++) {
+			final int childVisits = this.visits.get(child) + this.virtualLosses.get(child);
+			if(childVisits == 0) {
+				return child;
+			}
+			final double exploitation = (double) this.valueSums.get(child) / VALUE_SCALE / childVisits;
+			final double exploration = EXPLORATION * Math.sqrt(logParentVisits / childVisits);
+			if(exploitation + exploration > bestScore) {
+				bestScore = exploitation + exploration;
+				bestChild = child;
+			}
+		}
+		return bestChild;
+	}
+	
+	private void expand(final int node,
+						final Board board) {
+		final List<Move> legalMoves = new ArrayList<>();
+		for(final Move move : board.currentPlayer().getLegalMoves()) {
+			if(board.currentPlayer().makeMove(move).getMoveStatus().isDone()) {
+				legalMoves.add(move);
+			}
+		}
+		if(legalMoves.isEmpty()) {
+			this.states.set(node, TERMINAL);
+			return;
+		}
+		final int first = reserveNodes(legalMoves.size());
+		if(first < 0) {
+			this.states.set(node, LEAF);
+			return;
+		}
+		for(int i = 0; i < legalMoves.size(); i++) {
+			this.moves[first + i] = (short) TranspositionTable.encodeMove(legalMoves.get(i));
+		}
+		this.firstChild[node] = first;
+		this.numChildren[node] = legalMoves.size();
+		this.states.set(node, EXPANDED);
+	}
+	
+	/**
+	 * Returns the first of count consecutive free nodes, or -1 when the tree is full. A node that gets no room is
+	 * marked as a leaf and only rolled out from then on, so the count never passes the capacity.
+	 */
+	private int reserveNodes(final int count) {
+		int first;
+		do {
+			first = this.numNodes.get();
+			if(first + count > this.maxNodes) {
+				return -1;
+			}
+		} while(!this.numNodes.compareAndSet(first, first + count));
+		return first;
+	}
+	
+	/**
+	 * Plays a short playout that prefers the most valuable capture and otherwise picks a random move,
+	 * then scores the final position with the board evaluator as a probability that white wins.
+	 */
+	private double rollout(Board board,
+							final Random random) {
+		for(int ply = 0; ply < ROLLOUT_DEPTH; ply++) {
+			final Board nextBoard = playRolloutMove(board, random);
+			if(nextBoard == null) {
+				return terminalValue(board);
+			}
+			board = nextBoard;
+		}
+		final int score = this.boardEvaluator.evaluate(board, 0);
+		return 1.0 / (1.0 + Math.exp(-score / SCORE_SCALE));
+	}
+	
+	private static Board playRolloutMove(final Board board,
+											final Random random) {
+		final List<Move> captures = new ArrayList<>();
+		final List<Move> quietMoves = new ArrayList<>();
+		for(final Move move : board.currentPlayer().getLegalMoves()) {
+			if(move.isAttack()) {
+				captures.add(move);
+			} else {
+				quietMoves.add(move);
+			}
+		}
+		captures.sort((first, second) -> second.getAttackedPiece().getPieceValue() - first.getAttackedPiece().getPieceValue());
+		for(final Move capture : captures) {
+			final MoveTransition moveTransition = board.currentPlayer().makeMove(capture);
+			if(moveTransition.getMoveStatus().isDone()) {
+				return moveTransition.getTransitionBoard();
+			}
+		}
+		final int numQuietMoves = quietMoves.size();
+		final int offset = numQuietMoves == 0 ? 0 : random.nextInt(numQuietMoves);
+		for(int i = 0; i < numQuietMoves; i++) {
+			final MoveTransition moveTransition = board.currentPlayer().makeMove(quietMoves.get((offset + i) % numQuietMoves));
+			if(moveTransition.getMoveStatus().isDone()) {
+				return moveTransition.getTransitionBoard();
+			}
+		}
+		return null;
+	}
+	
+	private static double terminalValue(final Board board) {
+		if(!board.currentPlayer().isInCheck()) {
+			return 0.5;
+		}
+		return board.currentPlayer().getAlliance().isWhite() ? 0.0 : 1.0;
+	}
+	
+	private static Board playEncodedMove(final Board board,
+											final int encodedMove) {
+		final Move move = TranspositionTable.decodeMove(board, encodedMove);
+		return board.currentPlayer().makeMove(move).getTransitionBoard();
+	}
+	
+	private Move mostVisitedMove(final Board board) {
+		if(this.states.get(0) != EXPANDED) {
+			return null;
+		}
+		final int first = this.firstChild[0];
+		int bestChild = first;
+		for(int child = first; child < first + this.numChildren[0]; child++) {
+			if(this.visits.get(child) > this.visits.get(bestChild)) {
+				bestChild = child;
+			}
+		}
+		return TranspositionTable.decodeMove(board, this.moves[bestChild]);
+	}
+}
@@ -0,0 +1,106 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.BoardUtils;
+import com.chessTestProject.engine.board.Move;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Orders moves for the alpha-beta searches: the hash move first, then captures by most valuable victim and
+ * least valuable attacker, then the killer moves of the ply and finally the quiet moves by their history score.
+ * The killer and history tables are kept between searches of the same game.
+ */
+final class MoveOrderer {
+
+	static final int MAX_PLY = 64;
+	private static final int NUM_KILLERS = 2;
+	private static final int HASH_MOVE_SCORE = Integer.MAX_VALUE;
+	private static final int CAPTURE_SCORE = 1 << 30;
+	private static final int KILLER_SCORE = 1 << 29;
+	
+	private final int[][] killerMoves;
+	private final int[][] historyScores;
+	
+	MoveOrderer() {
+		this.killerMoves = new int[MAX_PLY][NUM_KILLERS];
+		this.historyScores = new int[BoardUtils.NUM_TILES][BoardUtils.NUM_TILES];
+	}
+	
+	List<Move> orderMoves(final Board board,
+							final int ply,
+							final int hashMove) {
+		final List<Move> orderedMoves = new ArrayList<>(board.currentPlayer().getLegalMoves());
+		orderedMoves.sort(Comparator.comparingInt((Move move) -> score(move, ply, hashMove)).reversed());
+		return orderedMoves;
+	}
+	
+	void recordCutoff(final Move move,
+						final int ply,
+						final int depth) {
+		if(move.isAttack()) {
+			return;
+		}
+		final int encodedMove = TranspositionTable.encodeMove(move);
+		if(ply < MAX_PLY && this.killerMoves[ply][0] != encodedMove) {
+			this.killerMoves[ply][1] = this.killerMoves[ply][0];
+			this.killerMoves[ply][0] = encodedMove;
+		}
+		final int from = move.getCurrentCoordinate();
+		final int to = move.getDestinationCoordinate();
+		this.historyScores[from][to] = Math.min(KILLER_SCORE - 1, this.historyScores[from][to] + depth * depth);
+	}
+	
+	/**
+	 * Ages the tables for a search that starts the given number of plies further down the game:
+	 * killers move up by that many plies and history scores are halved.
+	 */
+	void age(final int plies) {
+		for(int ply = 0; ply < MAX_PLY; ply++) {
+			if(ply + plies < MAX_PLY) {
+				this.killerMoves[ply][0] = this.killerMoves[ply + plies][0];
+				this.killerMoves[ply][1] = this.killerMoves[ply + plies][1];
+			} else {
+				Arrays.fill(this.killerMoves[ply], TranspositionTable.NO_MOVE);
+			}
+		}
+		for(final int[] historyRow : this.historyScores) {
+			for(int i = 0; i < historyRow.length; i++) {
+				historyRow[i] /= 2;
+			}
+		}
+	}
+	
+	void clear() {
+		for(final int[] killers : this.killerMoves) {
+			Arrays.fill(killers, TranspositionTable.NO_MOVE);
+		}
+		for(final int[] historyRow : this.historyScores) {
+			Arrays.fill(historyRow, 0);
+		}
+	}
+	
+	private int score(final Move move,
+						final int ply,
+						final int hashMove) {
+		final int encodedMove = TranspositionTable.encodeMove(move);
+		if(encodedMove == hashMove) {
+			return HASH_MOVE_SCORE;
+		}
+		if(move.isAttack()) {
+			return CAPTURE_SCORE + 100 * move.getAttackedPiece().getPieceValue() - move.getMovedPiece().getPieceValue() / 100;
+		}
+		if(ply < MAX_PLY) {
+			if(this.killerMoves[ply][0] == encodedMove) {
+				return KILLER_SCORE + 1;
+			}
+			if(this.killerMoves[ply][1] == encodedMove) {
+				return KILLER_SCORE;
+			}
+		}
+		return this.historyScores[move.getCurrentCoordinate()][move.getDestinationCoordinate()];
+	}
+}
@@ -6,5 +6,10 @@ import com.chessTestProject.engine.board.Move;
 public interface MoveStrategy {
 	
 	Move execute(Board board);
+	
+	/**
+	 * The number of nodes the last execute visited. For a fixed depth search the count only changes when the search does.
+	 */
+	long getNumNodes();
 
 }
@@ -0,0 +1,41 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Move;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class MultiPVResult {
+
+	private final List<PrincipalVariation> lines;
+	
+	MultiPVResult(final List<PrincipalVariation> lines) {
+		this.lines = Collections.unmodifiableList(new ArrayList<>(lines));
+	}
+	
+	public List<PrincipalVariation> getLines() {
+		return this.lines;
+	}
+	
+	public PrincipalVariation getBestLine() {
+		return this.lines.isEmpty() ? null : this.lines.get(0);
+	}
+	
+	public Move getBestMove() {
+		return this.lines.isEmpty() ? null : this.lines.get(0).getMove();
+	}
+	
+	public int size() {
+		return this.lines.size();
+	}
+	
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		for(int i = 0; i < this.lines.size(); i++) {
+			builder.append(i + 1).append(". ").append(this.lines.get(i)).append("\n");
+		}
+		return builder.toString();
+	}
+}
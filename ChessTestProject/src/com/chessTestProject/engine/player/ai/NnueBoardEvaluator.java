@@ -0,0 +1,96 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.Alliance;
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.pieces.Piece;
+import com.chessTestProject.engine.pieces.Piece.PieceType;
+
+import java.io.IOException;
+
+/**
+ * Evaluates with an NnueNetwork. The accumulator of every ply holds the two king tiles followed by the feature
+ * transformer output of the white and the black perspective. Every feature depends on the king tile of its perspective,
+ * so a king move refreshes the accumulator; all other moves add and remove single feature rows.
+ */
+public final class NnueBoardEvaluator extends IncrementalBoardEvaluator {
+
+	private static final int WHITE_KING = 0;
+	private static final int BLACK_KING = 1;
+	private static final int WHITE_ACCUMULATOR = 2;
+	
+	private final NnueNetwork network;
+	private final int blackAccumulator;
+	private final short[] input;
+	
+	public NnueBoardEvaluator(final String weightsPath) throws IOException {
+		this(NnueNetwork.load(weightsPath), false);
+	}
+	
+	public NnueBoardEvaluator(final NnueNetwork network,
+								final boolean crossChecking) {
+		super(WHITE_ACCUMULATOR + 2 * network.getAccumulatorSize(), crossChecking);
+		this.network = network;
+		this.blackAccumulator = WHITE_ACCUMULATOR + network.getAccumulatorSize();
+		this.input = new short[2 * network.getAccumulatorSize()];
+	}
+	
+	@Override
+	public String toString() {
+		return "NNUE (" + this.network.getKernel() + ")";
+	}
+	
+	@Override
+	protected void updatePiece(final int[] accumulator,
+								final PieceType pieceType,
+								final Alliance alliance,
+								final int tileCoordinate,
+								final int sign) {
+		if(pieceType.isKing()) {
+			return;
+		}
+		this.network.updateAccumulator(accumulator, WHITE_ACCUMULATOR, 
+				NnueNetwork.feature(Alliance.WHITE, accumulator[WHITE_KING], pieceType, alliance, tileCoordinate), sign);
+		this.network.updateAccumulator(accumulator, this.blackAccumulator, 
+				NnueNetwork.feature(Alliance.BLACK, accumulator[BLACK_KING], pieceType, alliance, tileCoordinate), sign);
+	}
+	
+	@Override
+	protected void applyMove(final int[] accumulator,
+								final Move move,
+								final Board transitionBoard) {
+		if(move.getMovedPiece().getPieceType().isKing()) {
+			refresh(transitionBoard, accumulator);
+		} else {
+			super.applyMove(accumulator, move, transitionBoard);
+		}
+	}
+	
+	@Override
+	protected void refresh(final Board board,
+							final int[] accumulator) {
+		accumulator[WHITE_KING] = board.whitePlayer().getPlayerKing().getPiecePosition();
+		accumulator[BLACK_KING] = board.blackPlayer().getPlayerKing().getPiecePosition();
+		this.network.initAccumulator(accumulator, WHITE_ACCUMULATOR);
+		this.network.initAccumulator(accumulator, this.blackAccumulator);
+		for(final Piece piece : board.getWhitePieces()) {
+			updatePiece(accumulator, piece.getPieceType(), piece.getPieceAlliance(), piece.getPiecePosition(), 1);
+		}
+		for(final Piece piece : board.getBlackPieces()) {
+			updatePiece(accumulator, piece.getPieceType(), piece.getPieceAlliance(), piece.getPiecePosition(), 1);
+		}
+	}
+	
+	@Override
+	protected int evaluate(final Board board,
+							final int depth,
+							final int[] accumulator) {
+		final boolean isWhiteToMove = board.currentPlayer().getAlliance().isWhite();
+		final int score = isWhiteToMove ?
+				this.network.forward(accumulator, WHITE_ACCUMULATOR, this.blackAccumulator, this.input) :
+					-this.network.forward(accumulator, this.blackAccumulator, WHITE_ACCUMULATOR, this.input);
+		return score +
+				StandardBoardEvaluator.checkmate(board.whitePlayer(), depth) -
+				StandardBoardEvaluator.checkmate(board.blackPlayer(), depth);
+	}
+}
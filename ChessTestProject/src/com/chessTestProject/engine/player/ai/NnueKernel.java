@@ -0,0 +1,49 @@
+package com.chessTestProject.engine.player.ai;
+
+/**
+ * The int16 dot product the dense layers of the NnueNetwork run on. The SIMD implementation needs the
+ * jdk.incubator.vector module, which is only resolved when the JVM is started with
+ * --add-modules jdk.incubator.vector; without it the scalar loop is used.
+ */
+interface NnueKernel {
+
+	String VECTOR_MODULE = "jdk.incubator.vector";
+	String VECTOR_KERNEL = "com.chessTestProject.engine.player.ai.VectorNnueKernel";
+	
+	/**
+	 * Returns the sum of input[inputOffset + i] * weights[weightOffset + i] for i below length, in 32-bit arithmetic.
+	 */
+	int dot(short[] input, int inputOffset, short[] weights, int weightOffset, int length);
+	
+	static NnueKernel create() {
+		if(ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+			try {
+				return (NnueKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+			} catch(final ReflectiveOperationException | LinkageError e) {
+				return new Scalar();
+			}
+		}
+		return new Scalar();
+	}
+	
+	final class Scalar implements NnueKernel {
+		
+		@Override
+		public int dot(final short[] input,
+						final int inputOffset,
+						final short[] weights,
+						final int weightOffset,
+						final int length) {
+			int sum = 0;
+			for(int i = 0; i < length; i++) {
+				sum += input[inputOffset + i] * weights[weightOffset + i];
+			}
+			return sum;
+		}
+		
+		@Override
+		public String toString() {
+			return "scalar";
+		}
+	}
+}
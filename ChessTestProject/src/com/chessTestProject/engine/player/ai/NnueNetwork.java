@@ -0,0 +1,141 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.Alliance;
+import com.chessTestProject.engine.board.BoardUtils;
+import com.chessTestProject.engine.pieces.Piece.PieceType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The weights of a small NNUE network: a feature transformer from (king tile, piece, tile) inputs to two accumulators,
+ * one per perspective, followed by a clipped hidden layer and a single output.
+ * <p>
+ * The weights file is little-endian: the int magic 'NNUE', the int version, the int accumulator size and the int
+ * hidden layer size, then the int16 feature biases and weights, the int32 hidden biases, the int16 hidden weights,
+ * the int32 output bias and the int16 output weights. A feature row is the accumulator size long.
+ */
+public final class NnueNetwork {
+
+	static final int MAGIC = 0x45554E4E;
+	static final int VERSION = 1;
+	static final int NUM_PIECE_FEATURES = 10;
+	static final int NUM_FEATURES = BoardUtils.NUM_TILES * NUM_PIECE_FEATURES * BoardUtils.NUM_TILES;
+	static final int ACTIVATION_MAX = 127;
+	static final int HIDDEN_SHIFT = 6;
+	static final int OUTPUT_DIVISOR = 16;
+	private static final int MIRROR = 56;
+	
+	private final int accumulatorSize;
+	private final int hiddenSize;
+	private final short[] featureBiases;
+	private final short[] featureWeights;
+	private final int[] hiddenBiases;
+	private final short[] hiddenWeights;
+	private final int outputBias;
+	private final short[] outputWeights;
+	private final NnueKernel kernel;
+	
+	private NnueNetwork(final ByteBuffer buffer) {
+		if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+			throw new RuntimeException("Not a version " + VERSION + " NNUE weights file");
+		}
+		this.accumulatorSize = buffer.getInt();
+		this.hiddenSize = buffer.getInt();
+		this.featureBiases = readShorts(buffer, this.accumulatorSize);
+		this.featureWeights = readShorts(buffer, NUM_FEATURES * this.accumulatorSize);
+		this.hiddenBiases = new int[this.hiddenSize];
+		buffer.asIntBuffer().get(this.hiddenBiases);
+		buffer.position(buffer.position() + 4 * this.hiddenSize);
+		this.hiddenWeights = readShorts(buffer, this.hiddenSize * 2 * this.accumulatorSize);
+		this.outputBias = buffer.getInt();
+		this.outputWeights = readShorts(buffer, this.hiddenSize);
+		this.kernel = NnueKernel.create();
+	}
+	
+	public static NnueNetwork load(final String path) throws IOException {
+		try(final FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+			final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new NnueNetwork(buffer.order(ByteOrder.LITTLE_ENDIAN));
+		}
+	}
+	
+	public int getAccumulatorSize() {
+		return this.accumulatorSize;
+	}
+	
+	public String getKernel() {
+		return this.kernel.toString();
+	}
+	
+	/**
+	 * Returns the input feature of a non-king piece seen from the perspective of an alliance. Black sees the board
+	 * mirrored, so both perspectives share the same weights.
+	 */
+	static int feature(final Alliance perspective,
+						final int kingTile,
+						final PieceType pieceType,
+						final Alliance alliance,
+						final int tile) {
+		final boolean isWhite = perspective.isWhite();
+		final int pieceFeature = 2 * pieceType.ordinal() + (alliance == perspective ? 0 : 1);
+		return ((isWhite ? kingTile : kingTile ^ MIRROR) * NUM_PIECE_FEATURES + pieceFeature) * BoardUtils.NUM_TILES + 
+				(isWhite ? tile : tile ^ MIRROR);
+	}
+	
+	void initAccumulator(final int[] accumulator, 
+							final int offset) {
+		for(int i = 0; i < this.accumulatorSize; i++) {
+			accumulator[offset + i] = this.featureBiases[i];
+		}
+	}
+	
+	void updateAccumulator(final int[] accumulator,
+							final int offset,
+							final int feature,
+							final int sign) {
+		final int row = feature * this.accumulatorSize;
+		for(int i = 0; i < this.accumulatorSize; i++) {
+			accumulator[offset + i] += sign * this.featureWeights[row + i];
+		}
+	}
+	
+	/**
+	 * Runs the dense layers on the accumulators of the side to move and of its opponent.
+	 * @param input scratch space of twice the accumulator size.
+	 * @return int the score in centipawns from the point of view of the side to move.
+	 */
+	int forward(final int[] accumulator,
+				final int ownOffset,
+				final int opponentOffset,
+				final short[] input) {
+		for(int i = 0; i < this.accumulatorSize; i++) {
+			input[i] = clip(accumulator[ownOffset + i]);
+			input[this.accumulatorSize + i] = clip(accumulator[opponentOffset + i]);
+		}
+		final int inputSize = 2 * this.accumulatorSize;
+		int output = this.outputBias;
+		for(int neuron = 0; neuron < this.hiddenSize; neuron++) {
+			final int hidden = this.hiddenBiases[neuron] + this.kernel.dot(input, 0, this.hiddenWeights, neuron * inputSize, inputSize);
+			output += clip(hidden >> HIDDEN_SHIFT) * this.outputWeights[neuron];
+		}
+		return output / OUTPUT_DIVISOR;
+	}
+	
+	private static short clip(final int value) {
+		return (short) Math.max(0, Math.min(ACTIVATION_MAX, value));
+	}
+	
+	private static short[] readShorts(final ByteBuffer buffer, 
+										final int length) {
+		final short[] values = new short[length];
+		buffer.asShortBuffer().get(values);
+		buffer.position(buffer.position() + 2 * length);
+		return values;
+	}
+}
@@ -0,0 +1,13 @@
+package com.chessTestProject.engine.player.ai;
+
+/**
+ * An evaluator that can score packed positions without rebuilding boards. Implementations must be safe to call
+ * from several threads at once, since BatchEvaluator splits a batch over a fork/join pool.
+ */
+public interface PackedEvaluator {
+
+	/**
+	 * Scores the positions from index from up to, but not including, to and stores them in scores at the same indices.
+	 */
+	void evaluate(PackedPositions positions, int from, int to, int[] scores);
+}
@@ -0,0 +1,78 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.BoardUtils;
+import com.chessTestProject.engine.pieces.Piece;
+
+/**
+ * A compact structure-of-arrays store of positions for batch evaluation. Pieces are kept one byte per tile
+ * in tile-major order, so a loop over the positions for one tile reads contiguous memory. The terms that need
+ * legal move generation, mobility and check, are computed once when a position is added.
+ */
+public final class PackedPositions {
+
+	static final int EMPTY = 0;
+	static final int NUM_CODES = 1 + 2 * Piece.PieceType.values().length;
+	
+	private final int capacity;
+	final byte[] pieces;
+	final boolean[] whiteToMove;
+	final short[] mobility;
+	final byte[] checks;
+	private int size;
+	
+	public PackedPositions(final int capacity) {
+		this.capacity = capacity;
+		this.pieces = new byte[BoardUtils.NUM_TILES * capacity];
+		this.whiteToMove = new boolean[capacity];
+		this.mobility = new short[capacity];
+		this.checks = new byte[capacity];
+	}
+	
+	/**
+	 * Packs a board and returns its index.
+	 */
+	public int add(final Board board) {
+		if(this.size == this.capacity) {
+			throw new RuntimeException("Packed positions are full at " + this.capacity);
+		}
+		final int index = this.size++;
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++) {
+			final Piece piece = board.getTile(tile).getPiece();
+			this.pieces[tile * this.capacity + index] = (byte) (piece == null ? EMPTY : code(piece.getPieceType(), piece.getPieceAlliance().isWhite()));
+		}
+		this.whiteToMove[index] = board.currentPlayer().getAlliance().isWhite();
+		this.mobility[index] = (short) Mobility.balance(board);
+		this.checks[index] = (byte) ((board.blackPlayer().isInCheck() ? 1 : 0) - (board.whitePlayer().isInCheck() ? 1 : 0));
+		return index;
+	}
+	
+	public int size() {
+		return this.size;
+	}
+	
+	public int capacity() {
+		return this.capacity;
+	}
+	
+	/**
+	 * Returns the index of the code of a tile in the pieces array.
+	 */
+	int pieceIndex(final int tile, 
+					final int position) {
+		return tile * this.capacity + position;
+	}
+	
+	static int code(final Piece.PieceType pieceType, 
+					final boolean isWhite) {
+		return 1 + pieceType.ordinal() + (isWhite ? 0 : Piece.PieceType.values().length);
+	}
+	
+	static boolean isWhite(final int code) {
+		return code <= Piece.PieceType.values().length;
+	}
+	
+	static Piece.PieceType pieceType(final int code) {
+		return Piece.PieceType.values()[(code - 1) % Piece.PieceType.values().length];
+	}
+}
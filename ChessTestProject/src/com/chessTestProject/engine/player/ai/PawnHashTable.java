@@ -0,0 +1,117 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.Alliance;
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.BoardUtils;
+
+import java.util.Arrays;
+
+/**
+ * Direct-mapped cache of pawn structure scores, keyed by the pawn-only Zobrist hash of a board.
+ * Each entry holds the middlegame and endgame pawn structure score from white's point of view and,
+ * per side, the pawn shield score of a king standing on each file. Entries depend on the weights
+ * used to fill them, so a table should only be shared by evaluators with the same weights.
+ */
+public final class PawnHashTable {
+
+	private static final int SHIELD_ENTRIES = 2 * BoardUtils.NUM_TILES_PER_ROW;
+	
+	private final long[] keys;
+	private final boolean[] occupied;
+	private final int[] middlegameScores;
+	private final int[] endgameScores;
+	private final short[] shields;
+	private final int mask;
+	private long hits;
+	private long misses;
+	
+	/**
+	 * @param numEntries the number of entries, rounded up to a power of two.
+	 */
+	public PawnHashTable(final int numEntries) {
+		final int size = Integer.highestOneBit(Math.max(1, numEntries - 1) << 1);
+		this.keys = new long[size];
+		this.occupied = new boolean[size];
+		this.middlegameScores = new int[size];
+		this.endgameScores = new int[size];
+		this.shields = new short[size * SHIELD_ENTRIES];
+		this.mask = size - 1;
+	}
+	
+	/**
+	 * Returns the slot holding the pawn structure of the board, evaluating and storing it first on a miss.
+	 */
+	int probe(final Board board,
+				final EvaluatorWeights weights) {
+		final long key = board.getPawnZobristHash();
+		final int slot = (int) (key ^ (key >>> 32)) & this.mask;
+		if(this.occupied[slot] && this.keys[slot] == key) {
+			this.hits++;
+			return slot;
+		}
+		this.misses++;
+		this.keys[slot] = key;
+		this.occupied[slot] = true;
+		PawnStructure.evaluate(board, weights, this, slot);
+		return slot;
+	}
+	
+	int getMiddlegameScore(final int slot) {
+		return this.middlegameScores[slot];
+	}
+	
+	int getEndgameScore(final int slot) {
+		return this.endgameScores[slot];
+	}
+	
+	/**
+	 * Returns the middlegame shield score of the pawns of the alliance for its king standing on the given column.
+	 */
+	int getShield(final int slot,
+					final Alliance alliance,
+					final int column) {
+		return this.shields[slot * SHIELD_ENTRIES + (alliance.isWhite() ? 0 : BoardUtils.NUM_TILES_PER_ROW) + column];
+	}
+	
+	void store(final int slot,
+				final int middlegameScore,
+				final int endgameScore) {
+		this.middlegameScores[slot] = middlegameScore;
+		this.endgameScores[slot] = endgameScore;
+	}
+	
+	void storeShield(final int slot,
+						final Alliance alliance,
+						final int column,
+						final int shield) {
+		this.shields[slot * SHIELD_ENTRIES + (alliance.isWhite() ? 0 : BoardUtils.NUM_TILES_PER_ROW) + column] = (short) shield;
+	}
+	
+	public long getHits() {
+		return this.hits;
+	}
+	
+	public long getMisses() {
+		return this.misses;
+	}
+	
+	public double getHitRate() {
+		final long probes = this.hits + this.misses;
+		return probes == 0 ? 0.0 : (double) this.hits / probes;
+	}
+	
+	public int size() {
+		return this.keys.length;
+	}
+	
+	public void clear() {
+		Arrays.fill(this.occupied, false);
+		this.hits = 0;
+		this.misses = 0;
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("pawn hash %d entries, %d hits, %d misses (%.1f%%)", size(), this.hits, this.misses, 100 * getHitRate());
+	}
+}
@@ -0,0 +1,179 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.Alliance;
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.BoardUtils;
+import com.chessTestProject.engine.pieces.Piece;
+
+/**
+ * Evaluates the pawns of a board on their own: passed, doubled, isolated and backward pawns and the pawn shield
+ * in front of each possible king file. Rows count from the eighth rank, so white pawns advance towards row 0.
+ */
+final class PawnStructure {
+
+	private static final int ROWS = BoardUtils.NUM_TILES_PER_ROW;
+	static final int MIDDLEGAME = 0;
+	static final int ENDGAME = 1;
+	static final int WHITE_SHIELDS = 2;
+	static final int BLACK_SHIELDS = WHITE_SHIELDS + ROWS;
+	static final int RESULT_SIZE = BLACK_SHIELDS + ROWS;
+	private static final int SHIELD_SECOND_RANK = 0;
+	private static final int SHIELD_THIRD_RANK = 1;
+	private static final int SHIELD_MISSING = 2;
+	static final int NUM_SHIELDS = SHIELD_MISSING + 1;
+	static final int SHIELD_FILES = 3;
+	
+	private PawnStructure() {
+		throw new RuntimeException("Not instantiable!");
+	}
+	
+	static void evaluate(final Board board,
+							final EvaluatorWeights weights,
+							final PawnHashTable table,
+							final int slot) {
+		final boolean[][] whitePawns = new boolean[ROWS][ROWS];
+		final boolean[][] blackPawns = new boolean[ROWS][ROWS];
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++) {
+			final Piece piece = board.getTile(tile).getPiece();
+			if(piece != null && piece.getPieceType() == Piece.PieceType.PAWN) {
+				(piece.getPieceAlliance().isWhite() ? whitePawns : blackPawns)[tile / ROWS][tile % ROWS] = true;
+			}
+		}
+		final int[] result = evaluate(whitePawns, blackPawns, weights);
+		table.store(slot, result[MIDDLEGAME], result[ENDGAME]);
+		for(int column = 0; column < ROWS; column++) {
+			table.storeShield(slot, Alliance.WHITE, column, result[WHITE_SHIELDS + column]);
+			table.storeShield(slot, Alliance.BLACK, column, result[BLACK_SHIELDS + column]);
+		}
+	}
+	
+	/**
+	 * Evaluates pawns given as [row][column] grids.
+	 * @return int[] the middlegame and endgame score from white's point of view, followed by the shield scores
+	 * of white and of black for a king on each column.
+	 */
+	static int[] evaluate(final boolean[][] whitePawns,
+							final boolean[][] blackPawns,
+							final EvaluatorWeights weights) {
+		final int[] white = scorePawns(whitePawns, blackPawns, -1, weights);
+		final int[] black = scorePawns(blackPawns, whitePawns, 1, weights);
+		final int[] result = new int[RESULT_SIZE];
+		result[MIDDLEGAME] = white[0] - black[0];
+		result[ENDGAME] = white[1] - black[1];
+		for(int column = 0; column < ROWS; column++) {
+			result[WHITE_SHIELDS + column] = shield(whitePawns, column, -1, weights);
+			result[BLACK_SHIELDS + column] = shield(blackPawns, column, 1, weights);
+		}
+		return result;
+	}
+	
+	/**
+	 * Checks if a king still stands on one of the two back ranks of its side, where its pawn shield counts.
+	 */
+	static boolean isSheltered(final Alliance alliance,
+								final int kingTile) {
+		final int row = kingTile / ROWS;
+		return alliance.isWhite() ? row >= ROWS - 2 : row <= 1;
+	}
+	
+	/**
+	 * Scores the pawns of one side, moving in the given row direction, against the enemy pawns.
+	 * @return int[] the middlegame and endgame score.
+	 */
+	private static int[] scorePawns(final boolean[][] pawns,
+									final boolean[][] enemyPawns,
+									final int forward,
+									final EvaluatorWeights weights) {
+		int middlegame = 0;
+		int endgame = 0;
+		for(int column = 0; column < ROWS; column++) {
+			int pawnsOnFile = 0;
+			for(int row = 0; row < ROWS; row++) {
+				if(!pawns[row][column]) {
+					continue;
+				}
+				pawnsOnFile++;
+				if(isPassed(enemyPawns, row, column, forward)) {
+					final int relativeRank = forward < 0 ? ROWS - 1 - row : row;
+					middlegame += weights.getMiddlegamePassedPawn(relativeRank);
+					endgame += weights.getEndgamePassedPawn(relativeRank);
+				}
+				if(isIsolated(pawns, column)) {
+					middlegame += weights.getMiddlegameIsolatedPawn();
+					endgame += weights.getEndgameIsolatedPawn();
+				} else if(isBackward(pawns, enemyPawns, row, column, forward)) {
+					middlegame += weights.getMiddlegameBackwardPawn();
+					endgame += weights.getEndgameBackwardPawn();
+				}
+			}
+			if(pawnsOnFile > 1) {
+				middlegame += (pawnsOnFile - 1) * weights.getMiddlegameDoubledPawn();
+				endgame += (pawnsOnFile - 1) * weights.getEndgameDoubledPawn();
+			}
+		}
+		return new int[] {middlegame, endgame};
+	}
+	
+	private static boolean isPassed(final boolean[][] enemyPawns,
+									final int row,
+									final int column,
+									final int forward) {
+		for(int r = row + forward; r >= 0 && r < ROWS; r += forward) {
+			for(int c = Math.max(0, column - 1); c <= Math.min(ROWS - 1, column + 1); c++) {
+				if(enemyPawns[r][c]) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+	
+	private static boolean isIsolated(final boolean[][] pawns,
+										final int column) {
+		for(int row = 0; row < ROWS; row++) {
+			if((column > 0 && pawns[row][column - 1]) || (column < ROWS - 1 && pawns[row][column + 1])) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * A pawn is backward when no friendly pawn on a neighbouring file is level with or behind it,
+	 * and an enemy pawn controls the square in front of it.
+	 */
+	private static boolean isBackward(final boolean[][] pawns,
+										final boolean[][] enemyPawns,
+										final int row,
+										final int column,
+										final int forward) {
+		for(int r = row; r >= 0 && r < ROWS; r -= forward) {
+			if((column > 0 && pawns[r][column - 1]) || (column < ROWS - 1 && pawns[r][column + 1])) {
+				return false;
+			}
+		}
+		final int attackerRow = row + 2 * forward;
+		if(attackerRow < 0 || attackerRow >= ROWS) {
+			return false;
+		}
+		return (column > 0 && enemyPawns[attackerRow][column - 1]) || (column < ROWS - 1 && enemyPawns[attackerRow][column + 1]);
+	}
+	
+	private static int shield(final boolean[][] pawns,
+								final int kingColumn,
+								final int forward,
+								final EvaluatorWeights weights) {
+		final int secondRank = forward < 0 ? ROWS - 2 : 1;
+		int shield = 0;
+		for(int column = Math.max(0, kingColumn - 1); column <= Math.min(ROWS - 1, kingColumn + 1); column++) {
+			if(pawns[secondRank][column]) {
+				shield += weights.getPawnShield(SHIELD_SECOND_RANK);
+			} else if(pawns[secondRank + forward][column]) {
+				shield += weights.getPawnShield(SHIELD_THIRD_RANK);
+			} else {
+				shield += weights.getPawnShield(SHIELD_MISSING);
+			}
+		}
+		return shield;
+	}
+}
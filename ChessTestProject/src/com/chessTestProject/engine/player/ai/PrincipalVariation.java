@@ -0,0 +1,41 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Move;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class PrincipalVariation {
+
+	private final int score;
+	private final List<Move> line;
+	
+	PrincipalVariation(final int score, 
+						final List<Move> line) {
+		this.score = score;
+		this.line = Collections.unmodifiableList(new ArrayList<>(line));
+	}
+	
+	public Move getMove() {
+		return this.line.get(0);
+	}
+	
+	public int getScore() {
+		return this.score;
+	}
+	
+	public List<Move> getLine() {
+		return this.line;
+	}
+	
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append(this.score);
+		for(final Move move : this.line) {
+			builder.append(" ").append(move);
+		}
+		return builder.toString();
+	}
+}
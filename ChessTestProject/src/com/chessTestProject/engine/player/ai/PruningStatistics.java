@@ -0,0 +1,80 @@
+package com.chessTestProject.engine.player.ai;
+
+/**
+ * Counters of a single search: the number of nodes visited, how often each frontier pruning technique fired
+ * and, when verification is switched on, how many prunes would have changed the score of the node, and how many nodes
+ * were scored by the tablebase or by the cheap terms of a lazy evaluation.
+ */
+public final class PruningStatistics {
+
+	long nodes;
+	long futilityPrunes;
+	long razorings;
+	long lateMovePrunes;
+	long unsafePrunes;
+	long tablebaseHits;
+	long lazyEvaluations;
+	
+	void reset() {
+		this.nodes = 0;
+		this.futilityPrunes = 0;
+		this.razorings = 0;
+		this.lateMovePrunes = 0;
+		this.unsafePrunes = 0;
+		this.tablebaseHits = 0;
+		this.lazyEvaluations = 0;
+	}
+	
+	void copyFrom(final PruningStatistics other) {
+		this.nodes = other.nodes;
+		this.futilityPrunes = other.futilityPrunes;
+		this.razorings = other.razorings;
+		this.lateMovePrunes = other.lateMovePrunes;
+		this.unsafePrunes = other.unsafePrunes;
+		this.tablebaseHits = other.tablebaseHits;
+		this.lazyEvaluations = other.lazyEvaluations;
+	}
+	
+	public long getNodes() {
+		return this.nodes;
+	}
+	
+	public long getFutilityPrunes() {
+		return this.futilityPrunes;
+	}
+	
+	public long getRazorings() {
+		return this.razorings;
+	}
+	
+	public long getLateMovePrunes() {
+		return this.lateMovePrunes;
+	}
+	
+	public long getUnsafePrunes() {
+		return this.unsafePrunes;
+	}
+	
+	public long getTablebaseHits() {
+		return this.tablebaseHits;
+	}
+	
+	public long getLazyEvaluations() {
+		return this.lazyEvaluations;
+	}
+	
+	public long getTotalPrunes() {
+		return this.futilityPrunes + this.lateMovePrunes;
+	}
+	
+	@Override
+	public String toString() {
+		return "nodes=" + this.nodes + 
+				" futility=" + this.futilityPrunes + 
+				" razoring=" + this.razorings + 
+				" lateMove=" + this.lateMovePrunes + 
+				" unsafe=" + this.unsafePrunes +
+				" tablebase=" + this.tablebaseHits +
+				" lazy=" + this.lazyEvaluations;
+	}
+}
@@ -0,0 +1,55 @@
+package com.chessTestProject.engine.player.ai;
+
+import java.util.Arrays;
+
+/**
+ * Counters of one search thread. Only the thread that owns them writes the plain fields, and they are merged
+ * into a SearchStatistics when the search is done, so counting needs no atomics or locks.
+ */
+final class SearchCounters {
+
+	private static final int INITIAL_PLIES = 16;
+	
+	long[] nodesPerPly;
+	long leafNodes;
+	long cutoffs;
+	long firstMoveCutoffs;
+	long transpositionProbes;
+	long transpositionHits;
+	
+	SearchCounters() {
+		this.nodesPerPly = new long[INITIAL_PLIES];
+	}
+	
+	void countNode(final int ply) {
+		if(ply >= this.nodesPerPly.length) {
+			this.nodesPerPly = Arrays.copyOf(this.nodesPerPly, Math.max(ply + 1, 2 * this.nodesPerPly.length));
+		}
+		this.nodesPerPly[ply]++;
+	}
+	
+	/**
+	 * @param numMovesSearched the number of moves searched at the node, including the one that caused the cutoff.
+	 */
+	void countCutoff(final int numMovesSearched) {
+		this.cutoffs++;
+		if(numMovesSearched == 1) {
+			this.firstMoveCutoffs++;
+		}
+	}
+	
+	void countProbe(final boolean isHit) {
+		this.transpositionProbes++;
+		if(isHit) {
+			this.transpositionHits++;
+		}
+	}
+	
+	long getNodes() {
+		long nodes = 0;
+		for(final long plyNodes : this.nodesPerPly) {
+			nodes += plyNodes;
+		}
+		return nodes;
+	}
+}
@@ -0,0 +1,28 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Move;
+
+public final class SearchResult {
+
+	private final Move bestMove;
+	private final SearchStatistics searchStatistics;
+	
+	SearchResult(final Move bestMove,
+					final SearchStatistics searchStatistics) {
+		this.bestMove = bestMove;
+		this.searchStatistics = searchStatistics;
+	}
+	
+	public Move getBestMove() {
+		return this.bestMove;
+	}
+	
+	public SearchStatistics getSearchStatistics() {
+		return this.searchStatistics;
+	}
+	
+	@Override
+	public String toString() {
+		return this.bestMove + " " + this.searchStatistics;
+	}
+}
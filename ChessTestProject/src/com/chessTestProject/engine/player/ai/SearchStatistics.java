@@ -0,0 +1,133 @@
+package com.chessTestProject.engine.player.ai;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The statistics of a finished search, merged from the counters of every thread that took part in it.
+ * The search has no quiescence stage, so the nodes at the horizon, where a quiescence search would start,
+ * are reported as the leaf share instead.
+ */
+public final class SearchStatistics {
+
+	private final long nodes;
+	private final long[] nodesPerPly;
+	private final long leafNodes;
+	private final long cutoffs;
+	private final long firstMoveCutoffs;
+	private final long transpositionProbes;
+	private final long transpositionHits;
+	private final Map<Integer, Long> depthTimes;
+	private final long time;
+	
+	/**
+	 * @param depthTimes the nanoseconds from the start of the search until each completed depth, in order.
+	 * @param time the nanoseconds the whole search took.
+	 */
+	SearchStatistics(final Collection<SearchCounters> counters,
+						final Map<Integer, Long> depthTimes,
+						final long time) {
+		int numPlies = 0;
+		for(final SearchCounters threadCounters : counters) {
+			numPlies = Math.max(numPlies, threadCounters.nodesPerPly.length);
+		}
+		final long[] nodesPerPly = new long[numPlies];
+		long leafNodes = 0;
+		long cutoffs = 0;
+		long firstMoveCutoffs = 0;
+		long transpositionProbes = 0;
+		long transpositionHits = 0;
+		for(final SearchCounters threadCounters : counters) {
+			for(int ply = 0; ply < threadCounters.nodesPerPly.length; ply++) {
+				nodesPerPly[ply] += threadCounters.nodesPerPly[ply];
+			}
+			leafNodes += threadCounters.leafNodes;
+			cutoffs += threadCounters.cutoffs;
+			firstMoveCutoffs += threadCounters.firstMoveCutoffs;
+			transpositionProbes += threadCounters.transpositionProbes;
+			transpositionHits += threadCounters.transpositionHits;
+		}
+		int deepestPly = numPlies - 1;
+		while(deepestPly > 0 && nodesPerPly[deepestPly] == 0) {
+			deepestPly--;
+		}
+		this.nodesPerPly = Arrays.copyOf(nodesPerPly, deepestPly + 1);
+		this.nodes = Arrays.stream(nodesPerPly).sum();
+		this.leafNodes = leafNodes;
+		this.cutoffs = cutoffs;
+		this.firstMoveCutoffs = firstMoveCutoffs;
+		this.transpositionProbes = transpositionProbes;
+		this.transpositionHits = transpositionHits;
+		this.depthTimes = Collections.unmodifiableMap(new LinkedHashMap<>(depthTimes));
+		this.time = time;
+	}
+	
+	public long getNodes() {
+		return this.nodes;
+	}
+	
+	/**
+	 * The number of nodes visited at every distance from the root, the root itself at ply 0.
+	 */
+	public long[] getNodesPerPly() {
+		return this.nodesPerPly.clone();
+	}
+	
+	public long getTimeMillis() {
+		return this.time / 1_000_000;
+	}
+	
+	public double getNodesPerSecond() {
+		return this.time == 0 ? 0.0 : this.nodes * 1e9 / this.time;
+	}
+	
+	/**
+	 * The milliseconds from the start of the search until each completed depth. A fixed depth search completes one.
+	 */
+	public Map<Integer, Long> getDepthTimesMillis() {
+		final Map<Integer, Long> depthTimesMillis = new LinkedHashMap<>();
+		for(final Map.Entry<Integer, Long> entry : this.depthTimes.entrySet()) {
+			depthTimesMillis.put(entry.getKey(), entry.getValue() / 1_000_000);
+		}
+		return depthTimesMillis;
+	}
+	
+	/**
+	 * The average number of children searched per node: the geometric mean of the growth from one ply to the next.
+	 */
+	public double getEffectiveBranchingFactor() {
+		final int deepestPly = this.nodesPerPly.length - 1;
+		if(deepestPly == 0 || this.nodesPerPly[0] == 0) {
+			return 0.0;
+		}
+		return Math.pow((double) this.nodesPerPly[deepestPly] / this.nodesPerPly[0], 1.0 / deepestPly);
+	}
+	
+	/**
+	 * The share of the beta cutoffs caused by the first move searched, a measure of the move ordering.
+	 */
+	public double getFirstMoveCutoffRate() {
+		return this.cutoffs == 0 ? 0.0 : (double) this.firstMoveCutoffs / this.cutoffs;
+	}
+	
+	public double getTranspositionHitRate() {
+		return this.transpositionProbes == 0 ? 0.0 : (double) this.transpositionHits / this.transpositionProbes;
+	}
+	
+	/**
+	 * The share of the nodes that were evaluated instead of searched.
+	 */
+	public double getLeafNodeShare() {
+		return this.nodes == 0 ? 0.0 : (double) this.leafNodes / this.nodes;
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("nodes=%d time=%dms nps=%.0f ebf=%.2f firstMoveCutoffs=%.1f%% ttHits=%.1f%% leaves=%.1f%% depths=%s", 
+				this.nodes, getTimeMillis(), getNodesPerSecond(), getEffectiveBranchingFactor(), 100 * getFirstMoveCutoffRate(), 
+				100 * getTranspositionHitRate(), 100 * getLeafNodeShare(), getDepthTimesMillis());
+	}
+}
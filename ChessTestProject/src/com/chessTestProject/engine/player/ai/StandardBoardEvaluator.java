@@ -10,6 +10,7 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
 	private static final int CHECK_MATE_BONUS = 10000;
 	private static final int DEPTH_BONUS = 100;
 	private static final int CASTLE_BONUS = 60;
+	static final int BONUS_MARGIN = CHECK_BONUS + CASTLE_BONUS;
 	
 	@Override
 	public int evaluate(final Board board, 
@@ -20,9 +21,24 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
 		
 	}
 	
+	@Override
+	public int getLazyMargin(final Board board) {
+		return Mobility.maxBalance(board) + BONUS_MARGIN;
+	}
+	
+	@Override
+	public int evaluateCheapTerms(final Board board,
+									final int depth) {
+		return pieceValue(board.whitePlayer()) - pieceValue(board.blackPlayer());
+	}
+	
 	private int scorePlayer(final Board board, final Player player, final int depth) {
 		return pieceValue(player) + 
-				mobility(player) + 
+				nonMaterialScore(board, player, depth);
+	}
+	
+	static int nonMaterialScore(final Board board, final Player player, final int depth) {
+		return Mobility.count(board, player.getAlliance()) + 
 				check(player) + 
 				checkmate(player, depth) + 
 				castled(player);
@@ -32,7 +48,7 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
 		return player.isCastled() ? CASTLE_BONUS : 0;
 	}
 
-	private int checkmate(Player player, int depth) {
+	static int checkmate(Player player, int depth) {
 		return player.getOpponent().isInCheckMate() ? CHECK_MATE_BONUS * depthBonus(depth) : 0;
 	}
 
@@ -45,10 +61,6 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
 
 	}
 
-	private static int mobility(final Player player) {
-		return player.getLegalMoves().size();
-	}
-
 	private static int pieceValue(final Player player) {
 		int pieceValueScore = 0;
 		for(final Piece piece : player.getActivePieces()) {
@@ -0,0 +1,217 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.Alliance;
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.BoardUtils;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.pieces.Piece;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Endgame tablebases written by the TablebaseGenerator, one file per material class, probed through memory mapped files.
+ * <p>
+ * A file is named after the signature of its class, for example KRK.tb, and holds a header followed by one byte per position.
+ * The index of a position is the side to move (0 when the first king of the signature is to move) followed by six bits
+ * per piece, in the order of the signature. A byte of 0 is a draw, any other byte is one more than the number of plies
+ * to mate: an odd number of plies is a win for the side to move, an even number a loss. The same file serves the class
+ * with the colours swapped, by mirroring the board vertically.
+ */
+public final class Tablebase {
+
+	public static final int NOT_FOUND = Integer.MIN_VALUE;
+	public static final String FILE_EXTENSION = ".tb";
+	public static final int TABLEBASE_WIN = 5000;
+	
+	static final int MAGIC = 0x54424C31;
+	static final int HEADER_SIZE = 2 * Integer.BYTES;
+	static final int MAX_PIECES = 4;
+	private static final int BITS_PER_PIECE = 6;
+	private static final int MIRROR = 56;
+	private static final String PIECE_LETTERS = "PNBRQK";
+	
+	private final Map<Long, Table> tables;
+	private final int maxPieces;
+	
+	/**
+	 * Maps every tablebase file in the directory.
+	 */
+	public Tablebase(final String directory) throws IOException {
+		this.tables = new HashMap<>();
+		int maxPieces = 0;
+		final File[] files = new File(directory).listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+		if(files == null) {
+			throw new IOException("Not a directory: " + directory);
+		}
+		for(final File file : files) {
+			final String signature = file.getName().substring(0, file.getName().length() - FILE_EXTENSION.length());
+			try(final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+				final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				if(buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != signature.length() ||
+						channel.size() != HEADER_SIZE + numEntries(signature.length())) {
+					throw new IOException("Not a tablebase for " + signature + ": " + file);
+				}
+				this.tables.put(MaterialKey.of(MaterialKey.mirror(signature)), new Table(signature, buffer, true));
+				this.tables.put(MaterialKey.of(signature), new Table(signature, buffer, false));
+				maxPieces = Math.max(maxPieces, signature.length());
+			}
+		}
+		this.maxPieces = maxPieces;
+	}
+	
+	public int getMaxPieces() {
+		return this.maxPieces;
+	}
+	
+	public int size() {
+		return (int) this.tables.values().stream().filter(table -> !table.isMirrored).count();
+	}
+	
+	/**
+	 * Returns the score of the board from white's point of view, or NOT_FOUND when there is no table for its material
+	 * or the side to move can castle or capture en passant, which the tables do not know about.
+	 */
+	public int probe(final Board board) {
+		if(board.getWhitePieces().size() + board.getBlackPieces().size() > this.maxPieces) {
+			return NOT_FOUND;
+		}
+		final Table table = this.tables.get(MaterialKey.of(board));
+		if(table == null) {
+			return NOT_FOUND;
+		}
+		for(final Move move : board.currentPlayer().getLegalMoves()) {
+			if(move.isCastlingMove() || move instanceof Move.PawnEnPassantAttackMove) {
+				return NOT_FOUND;
+			}
+		}
+		final int score = score(table.buffer.get(HEADER_SIZE + index(board, table.signature, table.isMirrored)) & 0xFF);
+		return board.currentPlayer().getAlliance().isWhite() ? score : -score;
+	}
+	
+	@Override
+	public String toString() {
+		return "Tablebase: " + size() + " classes up to " + this.maxPieces + " pieces";
+	}
+	
+	/**
+	 * Returns the score of an entry from the point of view of the side to move; mates further away score lower.
+	 */
+	static int score(final int entry) {
+		if(entry == 0) {
+			return 0;
+		}
+		final int plies = entry - 1;
+		return plies % 2 == 1 ? TABLEBASE_WIN - plies : -(TABLEBASE_WIN - plies);
+	}
+	
+	static int numEntries(final int numPieces) {
+		return 2 << (BITS_PER_PIECE * numPieces);
+	}
+	
+	/**
+	 * Returns the index of the board in the table of the signature. When isMirrored is set the board holds the class
+	 * with the colours swapped, so every piece is looked up with the other alliance on the mirrored tile.
+	 */
+	static int index(final Board board,
+						final String signature,
+						final boolean isMirrored) {
+		final int blackKing = signature.indexOf('K', 1);
+		long usedTiles = 0L;
+		int index = board.currentPlayer().getAlliance().isWhite() != isMirrored ? 0 : 1;
+		for(int slot = signature.length() - 1; slot >= 0; slot--) {
+			final boolean isWhite = (slot < blackKing) != isMirrored;
+			final Collection<Piece> pieces = isWhite ? board.getWhitePieces() : board.getBlackPieces();
+			final int pieceType = PIECE_LETTERS.indexOf(signature.charAt(slot));
+			int tile = -1;
+			for(final Piece piece : pieces) {
+				if(piece.getPieceType().ordinal() == pieceType && (usedTiles & (1L << piece.getPiecePosition())) == 0) {
+					tile = piece.getPiecePosition();
+					break;
+				}
+			}
+			if(tile < 0) {
+				throw new RuntimeException("Board does not match " + signature);
+			}
+			usedTiles |= 1L << tile;
+			index = (index << BITS_PER_PIECE) | (isMirrored ? tile ^ MIRROR : tile);
+		}
+		return index;
+	}
+	
+	/**
+	 * Returns the signature of the board: the white king and pieces, then the black king and pieces, strongest first.
+	 */
+	static String signature(final Board board) {
+		return "K" + pieceLetters(board.getWhitePieces()) + "K" + pieceLetters(board.getBlackPieces());
+	}
+	
+	/**
+	 * Returns the signature with the pieces of both sides sorted strongest first.
+	 */
+	static String normalize(final String signature) {
+		final int blackKing = signature.indexOf('K', 1);
+		return "K" + sortLetters(signature.substring(1, blackKing)) + "K" + sortLetters(signature.substring(blackKing + 1));
+	}
+	
+	/**
+	 * Returns the alliance a piece of the signature belongs to.
+	 */
+	static Alliance alliance(final String signature,
+								final int slot) {
+		return slot < signature.indexOf('K', 1) ? Alliance.WHITE : Alliance.BLACK;
+	}
+	
+	static Piece.PieceType pieceType(final String signature,
+										final int slot) {
+		return Piece.PieceType.values()[PIECE_LETTERS.indexOf(signature.charAt(slot))];
+	}
+	
+	static int tile(final int index,
+					final int slot) {
+		return (index >>> (BITS_PER_PIECE * slot)) & (BoardUtils.NUM_TILES - 1);
+	}
+	
+	private static String pieceLetters(final Collection<Piece> pieces) {
+		final StringBuilder letters = new StringBuilder();
+		for(final Piece piece : pieces) {
+			if(!piece.getPieceType().isKing()) {
+				letters.append(PIECE_LETTERS.charAt(piece.getPieceType().ordinal()));
+			}
+		}
+		return sortLetters(letters.toString());
+	}
+	
+	private static String sortLetters(final String letters) {
+		final StringBuilder strongestFirst = new StringBuilder();
+		for(int pieceType = PIECE_LETTERS.length() - 1; pieceType >= 0; pieceType--) {
+			for(int i = 0; i < letters.length(); i++) {
+				if(letters.charAt(i) == PIECE_LETTERS.charAt(pieceType)) {
+					strongestFirst.append(letters.charAt(i));
+				}
+			}
+		}
+		return strongestFirst.toString();
+	}
+	
+	private static final class Table {
+		
+		private final String signature;
+		private final MappedByteBuffer buffer;
+		private final boolean isMirrored;
+		
+		private Table(final String signature,
+						final MappedByteBuffer buffer,
+						final boolean isMirrored) {
+			this.signature = signature;
+			this.buffer = buffer;
+			this.isMirrored = isMirrored;
+		}
+	}
+}
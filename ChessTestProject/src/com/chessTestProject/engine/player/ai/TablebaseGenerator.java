@@ -0,0 +1,479 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.Alliance;
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.BoardUtils;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.pieces.Bishop;
+import com.chessTestProject.engine.pieces.King;
+import com.chessTestProject.engine.pieces.Knight;
+import com.chessTestProject.engine.pieces.Pawn;
+import com.chessTestProject.engine.pieces.Piece;
+import com.chessTestProject.engine.pieces.Queen;
+import com.chessTestProject.engine.pieces.Rook;
+import com.chessTestProject.engine.player.MoveTransition;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Generates distance to mate tablebases, see Tablebase for the file format, by retrograde analysis on top of the engine's
+ * move generator.
+ * <p>
+ * A first pass builds the board of every index once, in parallel chunks, and keeps its moves: a quiet move stays in the
+ * class and is kept as one byte, the piece it moves and its destination, while captures and promotions leave the class
+ * and are scored at once from the tables of smaller or promoted classes, which are generated first. The passes that follow
+ * only look at those bytes: in pass n a position is won in n plies when a move reaches a position lost in n - 1 plies,
+ * and lost in n plies when every move reaches a position won in at most n - 1 plies. What is left over is a draw.
+ * <p>
+ * Memory and time grow with 64 to the power of the number of pieces: a 3-piece class takes seconds, a 4-piece class
+ * builds 33 million boards, about three minutes per core, and needs a heap of about 2 GB for its moves.
+ */
+public final class TablebaseGenerator {
+
+	private static final int CHUNK_SIZE = 1 << 12;
+	private static final int BITS_PER_PIECE = 6;
+	private static final int MAX_ENTRY = 255;
+	private static final byte ILLEGAL = 1;
+	private static final byte IN_CHECK = 2;
+	private static final byte TERMINAL = 4;
+	private static final short NO_CONVERSION = -1;
+	private static final String NON_KING_LETTERS = "QRBNP";
+	
+	private final Map<Long, byte[]> tables;
+	private final Map<Long, String> signatures;
+	private final Map<String, byte[]> generated;
+	
+	public TablebaseGenerator() {
+		this.tables = new HashMap<>();
+		this.signatures = new HashMap<>();
+		this.generated = new LinkedHashMap<>();
+	}
+	
+	/**
+	 * Generates the table of the signature, after the tables its captures and promotions lead to.
+	 */
+	public byte[] generate(final String signature) {
+		final String normalized = Tablebase.normalize(signature);
+		if(normalized.length() > Tablebase.MAX_PIECES) {
+			throw new RuntimeException("Tablebases hold at most " + Tablebase.MAX_PIECES + " pieces: " + signature);
+		}
+		final byte[] existing = this.tables.get(MaterialKey.of(normalized));
+		if(existing != null) {
+			return existing;
+		}
+		generateDependencies(normalized);
+		final byte[] table = new ClassGenerator(normalized).generate();
+		this.tables.put(MaterialKey.of(MaterialKey.mirror(normalized)), table);
+		this.signatures.put(MaterialKey.of(MaterialKey.mirror(normalized)), normalized);
+		this.tables.put(MaterialKey.of(normalized), table);
+		this.signatures.put(MaterialKey.of(normalized), normalized);
+		this.generated.put(normalized, table);
+		return table;
+	}
+	
+	/**
+	 * Writes every table generated so far into the directory, one file per class.
+	 */
+	public void write(final String directory) throws IOException {
+		for(final Map.Entry<String, byte[]> entry : this.generated.entrySet()) {
+			final File file = new File(directory, entry.getKey() + Tablebase.FILE_EXTENSION);
+			try(final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+				out.writeInt(Tablebase.MAGIC);
+				out.writeInt(entry.getKey().length());
+				out.write(entry.getValue());
+			}
+		}
+	}
+	
+	/**
+	 * Returns the signatures of every class from 3 up to maxPieces pieces, each with its colours in one order only.
+	 */
+	public static Set<String> signatures(final int maxPieces) {
+		final Set<String> signatures = new LinkedHashSet<>();
+		for(int numPieces = 3; numPieces <= maxPieces; numPieces++) {
+			addSignatures(signatures, "", numPieces - 2, 0);
+		}
+		return signatures;
+	}
+	
+	private static void addSignatures(final Set<String> signatures,
+										final String pieces,
+										final int remaining,
+										final int firstLetter) {
+		if(remaining == 0) {
+			for(int split = 0; split <= pieces.length(); split++) {
+				final String signature = Tablebase.normalize("K" + pieces.substring(0, split) + "K" + pieces.substring(split));
+				final String mirror = MaterialKey.mirror(signature);
+				signatures.add(isStrongerOrEqual(signature, mirror) ? signature : mirror);
+			}
+			return;
+		}
+		for(int letter = firstLetter; letter < NON_KING_LETTERS.length(); letter++) {
+			addSignatures(signatures, pieces + NON_KING_LETTERS.charAt(letter), remaining - 1, letter);
+		}
+	}
+	
+	private static boolean isStrongerOrEqual(final String signature,
+												final String mirror) {
+		final int difference = material(signature, Alliance.WHITE) - material(signature, Alliance.BLACK);
+		return difference > 0 || (difference == 0 && signature.compareTo(mirror) <= 0);
+	}
+	
+	private static int material(final String signature,
+								final Alliance alliance) {
+		int material = 0;
+		for(int slot = 0; slot < signature.length(); slot++) {
+			if(Tablebase.alliance(signature, slot) == alliance) {
+				material += Tablebase.pieceType(signature, slot).getPieceValue();
+			}
+		}
+		return material;
+	}
+	
+	private void generateDependencies(final String signature) {
+		for(int slot = 1; slot < signature.length(); slot++) {
+			if(Tablebase.pieceType(signature, slot).isKing()) {
+				continue;
+			}
+			generateIfMissing(remove(signature, slot));
+			if(Tablebase.pieceType(signature, slot) == Piece.PieceType.PAWN) {
+				final String promoted = signature.substring(0, slot) + "Q" + signature.substring(slot + 1);
+				generateIfMissing(promoted);
+				for(int captured = 1; captured < promoted.length(); captured++) {
+					if(Tablebase.alliance(promoted, captured) != Tablebase.alliance(promoted, slot) && 
+							!Tablebase.pieceType(promoted, captured).isKing()) {
+						generateIfMissing(remove(promoted, captured));
+					}
+				}
+			}
+		}
+	}
+	
+	private void generateIfMissing(final String signature) {
+		if(signature.length() > 2 && !this.tables.containsKey(MaterialKey.of(signature))) {
+			generate(signature);
+		}
+	}
+	
+	private static String remove(final String signature,
+									final int slot) {
+		return Tablebase.normalize(signature.substring(0, slot) + signature.substring(slot + 1));
+	}
+	
+	private static String summary(final byte[] table) {
+		int wins = 0;
+		int losses = 0;
+		int longestMate = 0;
+		for(final byte entry : table) {
+			final int plies = (entry & 0xFF) - 1;
+			if(plies >= 0) {
+				if(plies % 2 == 1) {
+					wins++;
+				} else {
+					losses++;
+				}
+				longestMate = Math.max(longestMate, plies);
+			}
+		}
+		return wins + " wins, " + losses + " losses, longest mate " + longestMate + " plies";
+	}
+	
+	/**
+	 * The state of the generation of a single class.
+	 */
+	private final class ClassGenerator {
+		
+		private final String signature;
+		private final int numPieces;
+		private final int numEntries;
+		private final byte[] table;
+		private final byte[] flags;
+		private final short[] conversions;
+		private final int[][] offsets;
+		private final byte[][] moves;
+		
+		private ClassGenerator(final String signature) {
+			this.signature = signature;
+			this.numPieces = signature.length();
+			this.numEntries = Tablebase.numEntries(this.numPieces);
+			this.table = new byte[this.numEntries];
+			this.flags = new byte[this.numEntries];
+			this.conversions = new short[this.numEntries];
+			Arrays.fill(this.conversions, NO_CONVERSION);
+			final int numChunks = (this.numEntries + CHUNK_SIZE - 1) / CHUNK_SIZE;
+			this.offsets = new int[numChunks][];
+			this.moves = new byte[numChunks][];
+		}
+		
+		private byte[] generate() {
+			final int numChunks = this.offsets.length;
+			IntStream.range(0, numChunks).parallel().forEach(this::expand);
+			IntStream.range(0, numChunks).parallel().forEach(this::markTerminals);
+			int maxConversion = 0;
+			for(final short conversion : this.conversions) {
+				maxConversion = Math.max(maxConversion, conversion);
+			}
+			int quietPasses = 0;
+			for(int plies = 1; plies <= maxConversion || quietPasses < 2; plies++) {
+				if(plies == MAX_ENTRY) {
+					throw new RuntimeException("Mates in " + this.signature + " are too long for the tablebase format");
+				}
+				final int currentPlies = plies;
+				final int changed = IntStream.range(0, numChunks).parallel().map(chunk -> retrograde(chunk, currentPlies)).sum();
+				quietPasses = changed == 0 ? quietPasses + 1 : 0;
+			}
+			return this.table;
+		}
+		
+		/**
+		 * Builds the board of every index in the chunk, flags illegal positions and keeps the moves.
+		 */
+		private void expand(final int chunk) {
+			final int from = chunk * CHUNK_SIZE;
+			final int to = Math.min(from + CHUNK_SIZE, this.numEntries);
+			final int[] chunkOffsets = new int[to - from + 1];
+			byte[] chunkMoves = new byte[(to - from) * 8];
+			int numMoves = 0;
+			for(int index = from; index < to; index++) {
+				chunkOffsets[index - from] = numMoves;
+				final Board board = createBoard(index);
+				if(board == null || board.currentPlayer().getOpponent().isInCheck()) {
+					this.flags[index] = ILLEGAL;
+					continue;
+				}
+				if(board.currentPlayer().isInCheck()) {
+					this.flags[index] = IN_CHECK;
+				}
+				for(final Move move : board.currentPlayer().getLegalMoves()) {
+					if(move.isAttack() || move instanceof Move.PawnPromotion) {
+						final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
+						if(moveTransition.getMoveStatus().isDone()) {
+							this.conversions[index] = best(this.conversions[index], entry(moveTransition.getTransitionBoard()));
+						}
+						continue;
+					}
+					if(numMoves == chunkMoves.length) {
+						chunkMoves = Arrays.copyOf(chunkMoves, chunkMoves.length * 2);
+					}
+					chunkMoves[numMoves++] = (byte) ((slot(index, move.getCurrentCoordinate()) << BITS_PER_PIECE) | 
+															move.getDestinationCoordinate());
+				}
+			}
+			chunkOffsets[to - from] = numMoves;
+			this.offsets[chunk] = chunkOffsets;
+			this.moves[chunk] = Arrays.copyOf(chunkMoves, numMoves);
+		}
+		
+		/**
+		 * Scores the positions without a legal move: checkmate or stalemate.
+		 */
+		private void markTerminals(final int chunk) {
+			final int from = chunk * CHUNK_SIZE;
+			for(int index = from; index < from + this.offsets[chunk].length - 1; index++) {
+				if((this.flags[index] & ILLEGAL) != 0 || this.conversions[index] != NO_CONVERSION) {
+					continue;
+				}
+				boolean hasLegalMove = false;
+				for(int move = this.offsets[chunk][index - from]; move < this.offsets[chunk][index - from + 1] && !hasLegalMove; move++) {
+					hasLegalMove = (this.flags[successor(index, this.moves[chunk][move])] & ILLEGAL) == 0;
+				}
+				if(!hasLegalMove) {
+					this.table[index] = (byte) ((this.flags[index] & IN_CHECK) != 0 ? 1 : 0);
+					this.flags[index] |= TERMINAL;
+				}
+			}
+		}
+		
+		/**
+		 * Finds the positions of the chunk won (odd plies) or lost (even plies) in exactly plies plies.
+		 * Entries written in this pass have the other parity than the ones it reads, so chunks can run at the same time.
+		 */
+		private int retrograde(final int chunk,
+								final int plies) {
+			final boolean isWinPass = plies % 2 == 1;
+			final int from = chunk * CHUNK_SIZE;
+			int changed = 0;
+			for(int index = from; index < from + this.offsets[chunk].length - 1; index++) {
+				if(this.flags[index] != 0 && this.flags[index] != IN_CHECK || this.table[index] != 0) {
+					continue;
+				}
+				final int conversion = this.conversions[index];
+				boolean isResolved = isWinPass ? conversion == plies : 
+										conversion == NO_CONVERSION || isWinWithin(conversion, plies);
+				for(int move = this.offsets[chunk][index - from]; move < this.offsets[chunk][index - from + 1]; move++) {
+					final int successor = successor(index, this.moves[chunk][move]);
+					if((this.flags[successor] & ILLEGAL) != 0) {
+						continue;
+					}
+					final int entry = this.table[successor] & 0xFF;
+					if(isWinPass && entry == plies) {
+						isResolved = true;
+						break;
+					}
+					if(!isWinPass && !isWinWithin(entry, plies)) {
+						isResolved = false;
+						break;
+					}
+				}
+				if(isResolved) {
+					this.table[index] = (byte) (plies + 1);
+					changed++;
+				}
+			}
+			return changed;
+		}
+		
+		private Board createBoard(final int index) {
+			final Board.Builder builder = new Board.Builder();
+			long occupied = 0L;
+			for(int slot = 0; slot < this.numPieces; slot++) {
+				final int tile = Tablebase.tile(index, slot);
+				final Piece.PieceType pieceType = Tablebase.pieceType(this.signature, slot);
+				if((occupied & (1L << tile)) != 0 || 
+						(pieceType == Piece.PieceType.PAWN && (BoardUtils.FIRST_RANK[tile] || BoardUtils.EIGHT_RANK[tile]))) {
+					return null;
+				}
+				occupied |= 1L << tile;
+				builder.setPiece(createPiece(pieceType, Tablebase.alliance(this.signature, slot), tile));
+			}
+			builder.setMoveMaker(index >>> (BITS_PER_PIECE * this.numPieces) == 0 ? Alliance.WHITE : Alliance.BLACK);
+			return builder.build();
+		}
+		
+		private int slot(final int index,
+							final int tile) {
+			for(int slot = 0; slot < this.numPieces; slot++) {
+				if(Tablebase.tile(index, slot) == tile) {
+					return slot;
+				}
+			}
+			throw new RuntimeException("No piece on tile " + tile);
+		}
+		
+		private int successor(final int index,
+								final byte move) {
+			final int shift = BITS_PER_PIECE * ((move & 0xFF) >>> BITS_PER_PIECE);
+			final int destination = move & (BoardUtils.NUM_TILES - 1);
+			return ((index & ~((BoardUtils.NUM_TILES - 1) << shift)) | (destination << shift)) ^ 
+					(1 << (BITS_PER_PIECE * this.numPieces));
+		}
+	}
+	
+	/**
+	 * Returns the entry of a board of another class, from the tables generated before.
+	 */
+	private int entry(final Board board) {
+		if(board.getWhitePieces().size() + board.getBlackPieces().size() == 2) {
+			return 0;
+		}
+		final long materialKey = MaterialKey.of(board);
+		final byte[] table = this.tables.get(materialKey);
+		if(table == null) {
+			throw new RuntimeException("No table for " + Tablebase.signature(board));
+		}
+		final String signature = this.signatures.get(materialKey);
+		return table[Tablebase.index(board, signature, MaterialKey.of(signature) != materialKey)] & 0xFF;
+	}
+	
+	private static Piece createPiece(final Piece.PieceType pieceType,
+										final Alliance alliance,
+										final int tile) {
+		switch(pieceType) {
+			case PAWN:
+				return new Pawn(alliance, tile, alliance.isWhite() ? BoardUtils.SECOND_RANK[tile] : BoardUtils.SEVENTH_RANK[tile]);
+			case KNIGHT:
+				return new Knight(alliance, tile, false);
+			case BISHOP:
+				return new Bishop(alliance, tile, false);
+			case ROOK:
+				return new Rook(alliance, tile, false);
+			case QUEEN:
+				return new Queen(alliance, tile, false);
+			default:
+				return new King(alliance, tile, false);
+		}
+	}
+	
+	/**
+	 * Checks if the entry is a win for the side to move in fewer than plies plies.
+	 */
+	private static boolean isWinWithin(final int entry,
+										final int plies) {
+		return entry != 0 && entry % 2 == 0 && entry <= plies;
+	}
+	
+	/**
+	 * Returns the better of two entries of positions reached by the side to move, which are scored for the opponent:
+	 * the fastest win first, then a draw, then the slowest loss.
+	 */
+	private static short best(final short current,
+								final int entry) {
+		if(current == NO_CONVERSION) {
+			return (short) entry;
+		}
+		return rank(entry) > rank(current) ? (short) entry : current;
+	}
+	
+	private static int rank(final int entry) {
+		if(entry == 0) {
+			return 0;
+		}
+		return entry % 2 == 1 ? 2 * MAX_ENTRY - entry : -2 * MAX_ENTRY + entry;
+	}
+	
+	public static void main(final String[] args) throws IOException {
+		if(args.length < 1) {
+			System.out.println("Usage: TablebaseGenerator outputDirectory [maxPieces | signature ...]");
+			return;
+		}
+		final TablebaseGenerator generator = new TablebaseGenerator();
+		final long start = System.nanoTime();
+		if(args.length > 1 && !Character.isDigit(args[1].charAt(0))) {
+			for(int i = 1; i < args.length; i++) {
+				generateAndReport(generator, args[i]);
+			}
+		} else {
+			for(final String signature : signatures(args.length > 1 ? Integer.parseInt(args[1]) : 3)) {
+				generateAndReport(generator, signature);
+			}
+		}
+		new File(args[0]).mkdirs();
+		generator.write(args[0]);
+		System.out.printf("generated %d classes in %.1f s%n", generator.generated.size(), (System.nanoTime() - start) / 1e9);
+	}
+	
+	/**
+	 * Generates the table of the signature and prints every class it generated, the ones its captures and promotions lead to
+	 * first.
+	 */
+	private static void generateAndReport(final TablebaseGenerator generator,
+										  final String signature) {
+		final int numGenerated = generator.generated.size();
+		final long start = System.nanoTime();
+		generator.generate(signature);
+		final double seconds = (System.nanoTime() - start) / 1e9;
+		long positions = 0;
+		int skipped = 0;
+		for(final Map.Entry<String, byte[]> entry : generator.generated.entrySet()) {
+			if(skipped++ < numGenerated) {
+				continue;
+			}
+			positions += entry.getValue().length;
+			System.out.printf("%s: %d positions, %s%n", entry.getKey(), entry.getValue().length, summary(entry.getValue()));
+		}
+		if(positions > 0) {
+			System.out.printf("%d positions in %.1f s (%.0f positions/s)%n", positions, seconds, positions / seconds);
+		}
+	}
+}
@@ -0,0 +1,256 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.Alliance;
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.BoardUtils;
+import com.chessTestProject.engine.pieces.Piece.PieceType;
+import com.chessTestProject.engine.player.Player;
+
+/**
+ * Evaluates material and piece-square tables with separate middlegame and endgame weights. Both sums and the game
+ * phase are kept incrementally; the final score blends them by how much material is left on the board.
+ * Packed positions are scored with the same terms, except the mate bonus, so they should not be terminal.
+ */
+public final class TaperedBoardEvaluator extends IncrementalBoardEvaluator implements PackedEvaluator {
+
+	private static final int MIDDLEGAME = 0;
+	private static final int ENDGAME = 1;
+	private static final int PHASE = 2;
+	private static final int WHITE_MOBILITY = 3;
+	private static final int BLACK_MOBILITY = 4;
+	private static final int MIRROR = 56;
+	private static final int PAWN_HASH_ENTRIES = 1 << 14;
+	private static final int PACKED_PAWN_ENTRIES = 1 << 10;
+	private static final int WHITE_PAWN = PackedPositions.code(PieceType.PAWN, true);
+	private static final int BLACK_PAWN = PackedPositions.code(PieceType.PAWN, false);
+	private static final int WHITE_KING = PackedPositions.code(PieceType.KING, true);
+	private static final int BLACK_KING = PackedPositions.code(PieceType.KING, false);
+	
+	private final EvaluatorWeights weights;
+	private final PawnHashTable pawnHashTable;
+	private final int maxPhase;
+	private final int lazyMargin;
+	private final int mobilityWeight;
+	private final int[] packedMiddlegame;
+	private final int[] packedEndgame;
+	private final int[] packedPhase;
+	
+	public TaperedBoardEvaluator() {
+		this(EvaluatorWeights.defaults());
+	}
+	
+	public TaperedBoardEvaluator(final EvaluatorWeights weights) {
+		this(weights, false);
+	}
+	
+	public TaperedBoardEvaluator(final EvaluatorWeights weights,
+									final boolean crossChecking) {
+		this(weights, new PawnHashTable(PAWN_HASH_ENTRIES), crossChecking);
+	}
+	
+	public TaperedBoardEvaluator(final EvaluatorWeights weights,
+									final PawnHashTable pawnHashTable,
+									final boolean crossChecking) {
+		super(BLACK_MOBILITY + 1, crossChecking);
+		this.weights = weights;
+		this.pawnHashTable = pawnHashTable;
+		this.maxPhase = weights.getMaxPhase();
+		this.lazyMargin = lazyMargin(weights);
+		this.mobilityWeight = Math.max(Math.abs(weights.getMiddlegameMobility()), Math.abs(weights.getEndgameMobility()));
+		this.packedMiddlegame = new int[PackedPositions.NUM_CODES * BoardUtils.NUM_TILES];
+		this.packedEndgame = new int[PackedPositions.NUM_CODES * BoardUtils.NUM_TILES];
+		this.packedPhase = new int[PackedPositions.NUM_CODES];
+		for(int code = PackedPositions.EMPTY + 1; code < PackedPositions.NUM_CODES; code++) {
+			final PieceType pieceType = PackedPositions.pieceType(code);
+			final Alliance alliance = PackedPositions.isWhite(code) ? Alliance.WHITE : Alliance.BLACK;
+			final int[] accumulator = new int[BLACK_MOBILITY + 1];
+			for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++) {
+				accumulator[MIDDLEGAME] = accumulator[ENDGAME] = 0;
+				updatePiece(accumulator, pieceType, alliance, tile, 1);
+				this.packedMiddlegame[code * BoardUtils.NUM_TILES + tile] = accumulator[MIDDLEGAME];
+				this.packedEndgame[code * BoardUtils.NUM_TILES + tile] = accumulator[ENDGAME];
+			}
+			this.packedPhase[code] = weights.getPhaseWeight(pieceType);
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return "Tapered";
+	}
+	
+	public EvaluatorWeights getWeights() {
+		return this.weights;
+	}
+	
+	@Override
+	protected int getLazyMargin(final Board board,
+								final int[] accumulator) {
+		return Math.max(accumulator[WHITE_MOBILITY], accumulator[BLACK_MOBILITY]) * this.mobilityWeight + this.lazyMargin;
+	}
+	
+	public PawnHashTable getPawnHashTable() {
+		return this.pawnHashTable;
+	}
+	
+	@Override
+	protected void updatePiece(final int[] accumulator,
+								final PieceType pieceType,
+								final Alliance alliance,
+								final int tileCoordinate,
+								final int sign) {
+		final int tile = alliance.isWhite() ? tileCoordinate : tileCoordinate ^ MIRROR;
+		final int direction = alliance.isWhite() ? sign : -sign;
+		accumulator[MIDDLEGAME] += direction * this.weights.getMiddlegameScore(pieceType, tile);
+		accumulator[ENDGAME] += direction * this.weights.getEndgameScore(pieceType, tile);
+		accumulator[PHASE] += sign * this.weights.getPhaseWeight(pieceType);
+		accumulator[alliance.isWhite() ? WHITE_MOBILITY : BLACK_MOBILITY] += sign * Mobility.maxMobility(pieceType);
+	}
+	
+	@Override
+	protected int evaluateCheapTerms(final Board board,
+										final int depth,
+										final int[] accumulator) {
+		final int phase = Math.min(accumulator[PHASE], this.maxPhase);
+		final int pawnSlot = this.pawnHashTable.probe(board, this.weights);
+		final int middlegame = accumulator[MIDDLEGAME] + this.pawnHashTable.getMiddlegameScore(pawnSlot);
+		final int endgame = accumulator[ENDGAME] + this.pawnHashTable.getEndgameScore(pawnSlot);
+		return (middlegame * phase + endgame * (this.maxPhase - phase)) / this.maxPhase;
+	}
+	
+	@Override
+	protected int evaluate(final Board board,
+							final int depth,
+							final int[] accumulator) {
+		final int phase = Math.min(accumulator[PHASE], this.maxPhase);
+		final int mobility = Mobility.balance(board);
+		final int pawnSlot = this.pawnHashTable.probe(board, this.weights);
+		final int middlegame = accumulator[MIDDLEGAME] + mobility * this.weights.getMiddlegameMobility() +
+				this.pawnHashTable.getMiddlegameScore(pawnSlot) + 
+				kingShield(board.whitePlayer(), pawnSlot) - kingShield(board.blackPlayer(), pawnSlot);
+		final int endgame = accumulator[ENDGAME] + mobility * this.weights.getEndgameMobility() +
+				this.pawnHashTable.getEndgameScore(pawnSlot);
+		return (middlegame * phase + endgame * (this.maxPhase - phase)) / this.maxPhase +
+				scorePlayer(board.whitePlayer(), depth) -
+				scorePlayer(board.blackPlayer(), depth);
+	}
+	
+	/**
+	 * Scores packed positions. The tiles form the outer loop, so every inner loop walks contiguous arrays
+	 * over the positions; the pawn structure is evaluated per position without the pawn hash table.
+	 */
+	@Override
+	public void evaluate(final PackedPositions positions,
+							final int from,
+							final int to,
+							final int[] scores) {
+		final int count = to - from;
+		final int[] middlegame = new int[count];
+		final int[] endgame = new int[count];
+		final int[] phase = new int[count];
+		final byte[] pieces = positions.pieces;
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++) {
+			final int base = positions.pieceIndex(tile, from);
+			for(int i = 0; i < count; i++) {
+				final int code = pieces[base + i];
+				middlegame[i] += this.packedMiddlegame[code * BoardUtils.NUM_TILES + tile];
+				endgame[i] += this.packedEndgame[code * BoardUtils.NUM_TILES + tile];
+				phase[i] += this.packedPhase[code];
+			}
+		}
+		final long[] pawnKeys = new long[2 * PACKED_PAWN_ENTRIES];
+		final int[][] pawnResults = new int[PACKED_PAWN_ENTRIES][];
+		for(int i = 0; i < count; i++) {
+			final int[] pawns = packedPawnStructure(positions, from + i, pawnKeys, pawnResults);
+			middlegame[i] += pawns[PawnStructure.MIDDLEGAME] + positions.mobility[from + i] * this.weights.getMiddlegameMobility();
+			endgame[i] += pawns[PawnStructure.ENDGAME] + positions.mobility[from + i] * this.weights.getEndgameMobility();
+		}
+		for(int i = 0; i < count; i++) {
+			final int clampedPhase = Math.min(phase[i], this.maxPhase);
+			scores[from + i] = (middlegame[i] * clampedPhase + endgame[i] * (this.maxPhase - clampedPhase)) / this.maxPhase +
+					positions.checks[from + i] * this.weights.getCheckBonus();
+		}
+	}
+	
+	/**
+	 * Evaluates the pawn structure of a packed position, with the shield of each sheltered king added to the
+	 * middlegame score. Pawn structures are cached by their exact pawn tiles in the given direct-mapped table.
+	 */
+	private int[] packedPawnStructure(final PackedPositions positions, 
+										final int position,
+										final long[] pawnKeys,
+										final int[][] pawnResults) {
+		long whitePawns = 0L;
+		long blackPawns = 0L;
+		int whiteKing = -1;
+		int blackKing = -1;
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++) {
+			final int code = positions.pieces[positions.pieceIndex(tile, position)];
+			if(code == WHITE_PAWN) {
+				whitePawns |= 1L << tile;
+			} else if(code == BLACK_PAWN) {
+				blackPawns |= 1L << tile;
+			} else if(code == WHITE_KING) {
+				whiteKing = tile;
+			} else if(code == BLACK_KING) {
+				blackKing = tile;
+			}
+		}
+		final long hash = whitePawns * 0x9E3779B97F4A7C15L ^ blackPawns * 0xC2B2AE3D27D4EB4FL;
+		final int slot = (int) (hash >>> 54) & (PACKED_PAWN_ENTRIES - 1);
+		int[] pawns = pawnResults[slot];
+		if(pawns == null || pawnKeys[2 * slot] != whitePawns || pawnKeys[2 * slot + 1] != blackPawns) {
+			pawns = PawnStructure.evaluate(toGrid(whitePawns), toGrid(blackPawns), this.weights);
+			pawnResults[slot] = pawns;
+			pawnKeys[2 * slot] = whitePawns;
+			pawnKeys[2 * slot + 1] = blackPawns;
+		}
+		int middlegame = pawns[PawnStructure.MIDDLEGAME];
+		if(PawnStructure.isSheltered(Alliance.WHITE, whiteKing)) {
+			middlegame += pawns[PawnStructure.WHITE_SHIELDS + whiteKing % BoardUtils.NUM_TILES_PER_ROW];
+		}
+		if(PawnStructure.isSheltered(Alliance.BLACK, blackKing)) {
+			middlegame -= pawns[PawnStructure.BLACK_SHIELDS + blackKing % BoardUtils.NUM_TILES_PER_ROW];
+		}
+		return new int[] {middlegame, pawns[PawnStructure.ENDGAME]};
+	}
+	
+	private static boolean[][] toGrid(final long pawns) {
+		final boolean[][] grid = new boolean[BoardUtils.NUM_TILES_PER_ROW][BoardUtils.NUM_TILES_PER_ROW];
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++) {
+			grid[tile / BoardUtils.NUM_TILES_PER_ROW][tile % BoardUtils.NUM_TILES_PER_ROW] = (pawns & (1L << tile)) != 0;
+		}
+		return grid;
+	}
+	
+	/**
+	 * Bounds the terms left out of the cheap terms apart from mobility, which depends on the pieces on the board:
+	 * both pawn shields, the check and castle bonuses and one for the rounding of the phase interpolation.
+	 * The pawn structure is cheap, since it comes from the pawn hash table.
+	 */
+	private static int lazyMargin(final EvaluatorWeights weights) {
+		int maxShield = 0;
+		for(int shieldIndex = 0; shieldIndex < PawnStructure.NUM_SHIELDS; shieldIndex++) {
+			maxShield = Math.max(maxShield, Math.abs(weights.getPawnShield(shieldIndex)));
+		}
+		return 2 * PawnStructure.SHIELD_FILES * maxShield + 
+				Math.abs(weights.getCheckBonus()) + Math.abs(weights.getCastleBonus()) + 1;
+	}
+	
+	/**
+	 * Scores the pawn shield of a king that is still on one of its two back ranks.
+	 */
+	private int kingShield(final Player player, 
+							final int pawnSlot) {
+		final int kingPosition = player.getPlayerKing().getPiecePosition();
+		return PawnStructure.isSheltered(player.getAlliance(), kingPosition) ? 
+				this.pawnHashTable.getShield(pawnSlot, player.getAlliance(), kingPosition % BoardUtils.NUM_TILES_PER_ROW) : 0;
+	}
+	
+	private int scorePlayer(final Player player, 
+							final int depth) {
+		return (player.getOpponent().isInCheck() ? this.weights.getCheckBonus() : 0) +
+				(player.isCastled() ? this.weights.getCastleBonus() : 0) +
+				StandardBoardEvaluator.checkmate(player, depth);
+	}
+}
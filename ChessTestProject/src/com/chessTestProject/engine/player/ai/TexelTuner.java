@@ -0,0 +1,208 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.pgn.FenUtilities;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Tunes the weights of the TaperedBoardEvaluator on positions labelled with the result of the game they were
+ * played in, by minimising the squared difference between the result and a logistic function of the evaluation
+ * (Texel's tuning method) with coordinate descent.
+ * <p>
+ * Each line of a positions file holds a FEN, of which only the first four fields are read, and the result as
+ * 1-0, 0-1 or 1/2-1/2, optionally quoted, or as [1.0], [0.0] or [0.5]. Positions are parsed in parallel and kept
+ * packed, together with the result in half points, so millions of positions fit in memory.
+ */
+public final class TexelTuner {
+
+	private static final int CHUNK_SIZE = 1 << 16;
+	private static final int FEN_FIELDS = 4;
+	private static final int UNKNOWN_RESULT = -1;
+	
+	private final PackedPositions positions;
+	private final byte[] results;
+	private final BatchEvaluator batchEvaluator;
+	private double scalingConstant;
+	
+	public TexelTuner(final PackedPositions positions,
+						final byte[] results) {
+		this.positions = positions;
+		this.results = results;
+		this.batchEvaluator = new BatchEvaluator();
+		this.scalingConstant = 1.0;
+	}
+	
+	/**
+	 * Loads a positions file. Lines without a result and positions in which the player to move is mated or stalemated are skipped.
+	 */
+	public static TexelTuner load(final String path) throws IOException {
+		final long numLines;
+		try(final Stream<String> lines = Files.lines(Paths.get(path), StandardCharsets.UTF_8)) {
+			numLines = lines.count();
+		}
+		final PackedPositions positions = new PackedPositions((int) numLines);
+		final byte[] results = new byte[(int) numLines];
+		try(final BufferedReader reader = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+			final List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+			String line;
+			while((line = reader.readLine()) != null) {
+				chunk.add(line);
+				if(chunk.size() == CHUNK_SIZE) {
+					pack(chunk, positions, results);
+					chunk.clear();
+				}
+			}
+			pack(chunk, positions, results);
+		}
+		return new TexelTuner(positions, results);
+	}
+	
+	public int size() {
+		return this.positions.size();
+	}
+	
+	public double getScalingConstant() {
+		return this.scalingConstant;
+	}
+	
+	/**
+	 * Returns the mean squared error of the weights over all positions.
+	 */
+	public double error(final EvaluatorWeights weights) {
+		final int[] scores = this.batchEvaluator.evaluate(new TaperedBoardEvaluator(weights, new PawnHashTable(1), false), this.positions);
+		final double k = this.scalingConstant;
+		return IntStream.range(0, scores.length).parallel().mapToDouble(i -> {
+			final double difference = this.results[i] / 2.0 - winProbability(scores[i], k);
+			return difference * difference;
+		}).sum() / scores.length;
+	}
+	
+	/**
+	 * Fits the scaling constant of the logistic function to the untuned weights with a ternary search, so the error
+	 * measures the weights and not the scale of their scores.
+	 */
+	public double fitScalingConstant(final EvaluatorWeights weights) {
+		double low = 0.1;
+		double high = 3.0;
+		for(int i = 0; i < 30; i++) {
+			final double third = (high - low) / 3;
+			this.scalingConstant = low + third;
+			final double lowError = error(weights);
+			this.scalingConstant = high - third;
+			final double highError = error(weights);
+			if(lowError < highError) {
+				high -= third;
+			} else {
+				low += third;
+			}
+		}
+		this.scalingConstant = (low + high) / 2;
+		return this.scalingConstant;
+	}
+	
+	/**
+	 * Runs coordinate descent, moving one parameter at a time by one centipawn in whichever direction lowers the error,
+	 * until an iteration over all parameters changes nothing or maxIterations is reached. The weights are written to
+	 * outputPath after every iteration.
+	 */
+	public EvaluatorWeights tune(final EvaluatorWeights initialWeights,
+									final int maxIterations,
+									final String outputPath) throws IOException {
+		final int[] parameters = initialWeights.getParameters();
+		EvaluatorWeights weights = initialWeights;
+		double bestError = error(weights);
+		System.out.printf("%d positions, K = %.3f, initial error %.6f%n", size(), this.scalingConstant, bestError);
+		for(int iteration = 1; iteration <= maxIterations; iteration++) {
+			final long start = System.nanoTime();
+			long numEvaluations = 0;
+			boolean isImproved = false;
+			for(int p = 0; p < parameters.length; p++) {
+				for(final int step : new int[] {1, -1}) {
+					parameters[p] += step;
+					final EvaluatorWeights candidate = initialWeights.withParameters(parameters);
+					final double candidateError = error(candidate);
+					numEvaluations++;
+					if(candidateError < bestError) {
+						bestError = candidateError;
+						weights = candidate;
+						isImproved = true;
+						break;
+					}
+					parameters[p] -= step;
+				}
+			}
+			weights.save(outputPath);
+			final double seconds = (System.nanoTime() - start) / 1e9;
+			System.out.printf("iteration %d: error %.6f, %d evaluations of all positions, %.0f positions/s%n",
+					iteration, bestError, numEvaluations, numEvaluations * size() / seconds);
+			if(!isImproved) {
+				break;
+			}
+		}
+		return weights;
+	}
+	
+	private static double winProbability(final int score, 
+											final double scalingConstant) {
+		return 1.0 / (1.0 + Math.pow(10.0, -scalingConstant * score / 400.0));
+	}
+	
+	private static void pack(final List<String> lines,
+								final PackedPositions positions,
+								final byte[] results) {
+		final Board[] boards = new Board[lines.size()];
+		final int[] halfPoints = new int[lines.size()];
+		IntStream.range(0, lines.size()).parallel().forEach(i -> {
+			final String[] fields = lines.get(i).trim().split("\\s+", FEN_FIELDS + 1);
+			halfPoints[i] = fields.length > FEN_FIELDS ? parseResult(fields[FEN_FIELDS]) : UNKNOWN_RESULT;
+			if(halfPoints[i] != UNKNOWN_RESULT) {
+				final Board board = FenUtilities.createGameFromFEN(String.join(" ", fields[0], fields[1], fields[2], fields[3]));
+				if(!board.currentPlayer().isInCheckMate() && !board.currentPlayer().isInStaleMate()) {
+					boards[i] = board;
+				}
+			}
+		});
+		for(int i = 0; i < boards.length; i++) {
+			if(boards[i] != null) {
+				results[positions.add(boards[i])] = (byte) halfPoints[i];
+			}
+		}
+	}
+	
+	private static int parseResult(final String label) {
+		if(label.contains("1/2-1/2") || label.contains("[0.5]")) {
+			return 1;
+		} else if(label.contains("1-0") || label.contains("[1.0]")) {
+			return 2;
+		} else if(label.contains("0-1") || label.contains("[0.0]")) {
+			return 0;
+		}
+		return UNKNOWN_RESULT;
+	}
+	
+	/**
+	 * Usage: TexelTuner positionsFile outputWeightsFile [maxIterations [initialWeightsFile]]
+	 */
+	public static void main(final String[] args) throws IOException {
+		if(args.length < 2) {
+			System.out.println("Usage: TexelTuner positionsFile outputWeightsFile [maxIterations [initialWeightsFile]]");
+			return;
+		}
+		final int maxIterations = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+		final EvaluatorWeights weights = args.length > 3 ? EvaluatorWeights.load(args[3]) : EvaluatorWeights.defaults();
+		final long start = System.nanoTime();
+		final TexelTuner tuner = load(args[0]);
+		System.out.printf("loaded %d positions in %.1f s%n", tuner.size(), (System.nanoTime() - start) / 1e9);
+		tuner.fitScalingConstant(weights);
+		tuner.tune(weights, maxIterations, args[1]);
+	}
+}
@@ -0,0 +1,108 @@
+package com.chessTestProject.engine.player.ai;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+
+import java.util.Arrays;
+
+public final class TranspositionTable {
+
+	static final int NO_MOVE = 0;
+	static final int NOT_FOUND = -1;
+	
+	private final int mask;
+	private final long[] keys;
+	private final int[] lowerBounds;
+	private final int[] upperBounds;
+	private final byte[] depths;
+	private final short[] moves;
+	private final boolean[] occupied;
+	private final byte[] generations;
+	private byte generation;
+	
+	public TranspositionTable(final int numEntries) {
+		final int size = Integer.highestOneBit(Math.max(numEntries, 1));
+		this.mask = size - 1;
+		this.keys = new long[size];
+		this.lowerBounds = new int[size];
+		this.upperBounds = new int[size];
+		this.depths = new byte[size];
+		this.moves = new short[size];
+		this.occupied = new boolean[size];
+		this.generations = new byte[size];
+	}
+	
+	public int size() {
+		return this.keys.length;
+	}
+	
+	public void clear() {
+		Arrays.fill(this.occupied, false);
+		this.generation = 0;
+	}
+	
+	/**
+	 * Starts a new search. Entries of earlier searches stay available for probing,
+	 * but any store replaces them regardless of their depth.
+	 */
+	public void newSearch() {
+		this.generation++;
+	}
+	
+	int probe(final long key) {
+		final int slot = (int) key & this.mask;
+		return this.occupied[slot] && this.keys[slot] == key ? slot : NOT_FOUND;
+	}
+	
+	int getDepth(final int slot) {
+		return this.depths[slot];
+	}
+	
+	int getLowerBound(final int slot) {
+		return this.lowerBounds[slot];
+	}
+	
+	int getUpperBound(final int slot) {
+		return this.upperBounds[slot];
+	}
+	
+	int getMove(final int slot) {
+		return this.moves[slot];
+	}
+	
+	void store(final long key,
+				final int depth,
+				final int lowerBound,
+				final int upperBound,
+				final int move) {
+		final int slot = (int) key & this.mask;
+		if(this.occupied[slot] && this.generations[slot] == this.generation && 
+				this.keys[slot] == key && this.depths[slot] > depth) {
+			return;
+		}
+		this.occupied[slot] = true;
+		this.generations[slot] = this.generation;
+		this.keys[slot] = key;
+		this.depths[slot] = (byte) depth;
+		this.lowerBounds[slot] = lowerBound;
+		this.upperBounds[slot] = upperBound;
+		this.moves[slot] = (short) move;
+	}
+	
+	static int encodeMove(final Move move) {
+		return move == null ? NO_MOVE : (move.getCurrentCoordinate() << 6) | move.getDestinationCoordinate();
+	}
+	
+	static Move decodeMove(final Board board,
+							final int encodedMove) {
+		if(encodedMove == NO_MOVE) {
+			return null;
+		}
+		for(final Move move : board.currentPlayer().getLegalMoves()) {
+			if(encodeMove(move) == encodedMove) {
+				return move;
+			}
+		}
+		return null;
+	}
+}
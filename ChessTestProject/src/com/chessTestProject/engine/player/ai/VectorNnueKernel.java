@@ -0,0 +1,46 @@
+package com.chessTestProject.engine.player.ai;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Widens int16 lanes to int32 before multiplying, so products cannot overflow, using the widest int vector
+ * the CPU supports (SSE/AVX on x86, NEON on ARM). Only loaded through NnueKernel.create.
+ */
+final class VectorNnueKernel implements NnueKernel {
+
+	private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Short> SHORTS = 
+			VectorSpecies.of(short.class, VectorShape.forBitSize(INTS.vectorBitSize() / 2));
+	
+	@Override
+	public int dot(final short[] input,
+					final int inputOffset,
+					final short[] weights,
+					final int weightOffset,
+					final int length) {
+		final int lanes = INTS.length();
+		final int vectorLength = length - length % lanes;
+		IntVector sum = IntVector.zero(INTS);
+		for(int i = 0; i < vectorLength; i += lanes) {
+			final IntVector a = (IntVector) ShortVector.fromArray(SHORTS, input, inputOffset + i)
+					.convertShape(VectorOperators.S2I, INTS, 0);
+			final IntVector b = (IntVector) ShortVector.fromArray(SHORTS, weights, weightOffset + i)
+					.convertShape(VectorOperators.S2I, INTS, 0);
+			sum = sum.add(a.mul(b));
+		}
+		int result = sum.reduceLanes(VectorOperators.ADD);
+		for(int i = vectorLength; i < length; i++) {
+			result += input[inputOffset + i] * weights[weightOffset + i];
+		}
+		return result;
+	}
+	
+	@Override
+	public String toString() {
+		return "vector " + INTS.vectorBitSize() + " bit";
+	}
+}
@@ -30,6 +30,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Observable;
 import java.util.Observer;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -56,12 +57,15 @@ public class Table extends Observable {
 	private final BoardPanel boardPanel;
 	private final MoveLog moveLog;
 	private final GameSetup gameSetup;
+	private final MiniMax engine;
 	private Board chessBoard;
 	private Tile sourceTile;
 	private Tile destinationTile;
 	private Piece humanMovedPiece;
 	private BoardDirection boardDirection;
 	private Move computerMove;
+	private AIPonderTank ponderTank;
+	private AIThinkTank thinkTank;
 	private boolean highlightLegalMoves;
 	private final static Dimension OUTER_FRAME_DIMENSION = new Dimension(800,800);
 	private final static Dimension BOARD_PANEL_DIMENSION = new Dimension(400, 350);
@@ -85,6 +89,7 @@ public class Table extends Observable {
 		this.moveLog = new MoveLog();
 		this.addObserver(new TableGameAIWatcher());
 		this.gameSetup = new GameSetup(this.gameFrame, true);
+		this.engine = MiniMax.createStandardEngine(3);
 		this.boardDirection = BoardDirection.NORMAL;
 		this.highlightLegalMoves = true;
 		this.gameFrame.add(this.takenPiecesPanel, BorderLayout.WEST);
@@ -111,6 +116,10 @@ public class Table extends Observable {
 	private Board getGameBoard() {
 		return this.chessBoard;
 	}
+	
+	private MiniMax getEngine() {
+		return this.engine;
+	}
 
 	private JMenuBar createTableMenuBar() {
 		final JMenuBar tableMenuBar = new JMenuBar();
@@ -123,6 +132,15 @@ public class Table extends Observable {
 	private JMenu createFileMenu() {
 		final JMenu fileMenu = new JMenu("File");
 		
+		final JMenuItem newGameMenuItem = new JMenuItem("New Game");
+		newGameMenuItem.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				Table.get().newGameUpdate();
+			}
+		});
+		fileMenu.add(newGameMenuItem);
+		
 		final JMenuItem openPGN = new JMenuItem("Load PGN File");
 		openPGN.addActionListener(new ActionListener() {
 			@Override
@@ -191,7 +209,33 @@ public class Table extends Observable {
 		
 	}
 	
+	private void newGameUpdate() {
+		stopThinking();
+		stopPondering();
+		this.chessBoard = Board.createStandardBoard();
+		this.computerMove = null;
+		this.moveLog.clear();
+		this.gameHistoryPanel.redo(this.chessBoard, this.moveLog);
+		this.takenPiecesPanel.redo(this.moveLog);
+		this.boardPanel.drawBoard(this.chessBoard);
+		// The engine is only cleared once the cancelled searches have let go of it, which is waited for off the EDT.
+		new SwingWorker<Void, Void>() {
+			@Override
+			protected Void doInBackground() {
+				Table.get().getEngine().newGame();
+				return null;
+			}
+			
+			@Override
+			protected void done() {
+				Table.get().setupUpdate(Table.get().getGameSetup());
+			}
+		}.execute();
+	}
+	
 	private void setupUpdate(final GameSetup gameSetup) {
+		stopThinking();
+		stopPondering();
 		setChanged();
 		notifyObservers(gameSetup);
 	}
@@ -203,8 +247,7 @@ public class Table extends Observable {
 				if(Table.get().getGameSetup().isAIPlayer(Table.get().getGameBoard().currentPlayer()) &&
 						!Table.get().getGameBoard().currentPlayer().isInCheckMate() &&
 						!Table.get().getGameBoard().currentPlayer().isInStaleMate()) {
-					final AIThinkTank thinkTank = new AIThinkTank();
-					thinkTank.execute();
+					Table.get().startThinking();
 				}
 				if(Table.get().getGameBoard().currentPlayer().isInCheckMate()) {
 					System.out.println("Game over, " + Table.get().getGameBoard().currentPlayer() + " is in checkmate!");
@@ -245,23 +288,130 @@ public class Table extends Observable {
 		notifyObservers(playerType);
 	}
 	
+	private void startThinking() {
+		stopThinking();
+		this.thinkTank = new AIThinkTank(this.chessBoard, takePonderTank());
+		this.thinkTank.execute();
+	}
 	
-	private static class AIThinkTank extends SwingWorker<Move, String> {
-		private AIThinkTank() {
+	/**
+	 * Cancels the running think tank and the ponder tank it took over, so their moves are never played.
+	 */
+	private void stopThinking() {
+		if(this.thinkTank != null) {
+			this.thinkTank.cancel(true);
+			if(this.thinkTank.ponderTank != null) {
+				this.thinkTank.ponderTank.cancel(true);
+			}
+			this.thinkTank = null;
+		}
+	}
+	
+	private void startPondering() {
+		stopPondering();
+		this.ponderTank = new AIPonderTank(this.chessBoard);
+		this.ponderTank.execute();
+	}
+	
+	private void stopPondering() {
+		if(this.ponderTank != null) {
+			this.ponderTank.cancel(true);
+			this.ponderTank = null;
+		}
+	}
+	
+	private void ponderUpdate(final Move humanMove) {
+		if(this.ponderTank != null && !this.ponderTank.isPonderHit(humanMove)) {
+			stopPondering();
+		}
+	}
+	
+	private AIPonderTank takePonderTank() {
+		final AIPonderTank ponderTank = this.ponderTank;
+		this.ponderTank = null;
+		return ponderTank;
+	}
+	
+	private static class AIPonderTank extends SwingWorker<Move, String> {
+		private final Board board;
+		private volatile Move predictedMove;
+		
+		private AIPonderTank(final Board board) {
+			this.board = board;
+		}
+		
+		@Override
+		protected Move doInBackground() throws Exception {
 			
+			// The engine's own search stored the reply it expects in the transposition table.
+			final Move predictedMove = Table.get().getEngine().getHashMove(this.board);
+			
+			if(predictedMove == null || isCancelled()) {
+				return null;
+			}
+			
+			this.predictedMove = predictedMove;
+			final Board ponderBoard = this.board.currentPlayer().makeMove(predictedMove).getTransitionBoard();
+			
+			if(ponderBoard.currentPlayer().isInCheckMate() ||
+					ponderBoard.currentPlayer().isInStaleMate()) {
+				return null;
+			}
+			
+			final MoveStrategy miniMax = Table.get().getEngine();
+			
+			return miniMax.execute(ponderBoard);
+		}
+		
+		private boolean isPonderHit(final Move humanMove) {
+			return humanMove.equals(this.predictedMove);
+		}
+	}
+	
+	private static class AIThinkTank extends SwingWorker<Move, String> {
+		private final Board board;
+		private final AIPonderTank ponderTank;
+		
+		private AIThinkTank(final Board board,
+							final AIPonderTank ponderTank) {
+			this.board = board;
+			this.ponderTank = ponderTank;
 		}
 		@Override
 		protected Move doInBackground() throws Exception {
 			
-			final MoveStrategy miniMax = new MiniMax(3);
+			if(this.ponderTank != null) {
+				try {
+					final Move ponderedMove = this.ponderTank.get();
+					if(ponderedMove != null) {
+						return Move.MoveFactory.createMove(this.board, 
+															ponderedMove.getCurrentCoordinate(), 
+															ponderedMove.getDestinationCoordinate());
+					}
+				} catch (ExecutionException e) {
+					// A failed ponder search only loses its head start; the move is searched below.
+					e.printStackTrace();
+				} catch (CancellationException e) {
+					// The ponder search was stopped along with this one, which is then interrupted below.
+				}
+			}
+			
+			final MoveStrategy miniMax = Table.get().getEngine();
 			
-			final Move bestMove = miniMax.execute(Table.get().getGameBoard());
+			final Move bestMove = miniMax.execute(this.board);
 			
 			return bestMove;
 		}
 		
 		@Override
 		public void done() {
+			// A cancelled search, or one of a board that was replaced by a new game or setup, must not be played.
+			if(isCancelled() || Table.get().getGameBoard() != this.board) {
+				return;
+			}
+			if(Table.get().thinkTank == this) {
+				Table.get().thinkTank = null;
+			}
 			try {
 				final Move bestMove = get();
 				Table.get().updateComputerMove(bestMove);
@@ -270,7 +420,12 @@ public class Table extends Observable {
 				Table.get().getGameHistoryPanel().redo(Table.get().getGameBoard(), Table.get().getMoveLog());
 				Table.get().getTakenPiecesPanel().redo(Table.get().getMoveLog());
 				Table.get().getBoardPanel().drawBoard(Table.get().getGameBoard());
-				Table.get().moveMadeUpdate(PlayerType.COMPUTER);				
+				Table.get().moveMadeUpdate(PlayerType.COMPUTER);
+				if(!Table.get().getGameSetup().isAIPlayer(Table.get().getGameBoard().currentPlayer()) &&
+						!Table.get().getGameBoard().currentPlayer().isInCheckMate() &&
+						!Table.get().getGameBoard().currentPlayer().isInStaleMate()) {
+					Table.get().startPondering();
+				}
 			} catch (InterruptedException e) {
 				e.printStackTrace();
 			} catch (ExecutionException e) {
@@ -420,6 +575,7 @@ public class Table extends Observable {
 							if(transition.getMoveStatus().isDone()) {
 								chessBoard = transition.getTransitionBoard();
 								moveLog.addMove(move);
+								Table.get().ponderUpdate(move);
 							}
 							sourceTile = null;
 							destinationTile = null;
@@ -0,0 +1,209 @@
+// User-defined package.
+package com.chessTestProject.perft;
+
+// Imported user-defined classes.
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.player.MoveTransition;
+
+// Imported built-in classes.
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class that counts perft for deep runs. Subtrees are split across a ForkJoinPool, the count of every (position, depth)
+ * is remembered in a table shared by all threads, and the moves of the last ply are counted without being executed.
+ * <p>
+ * The table is direct-mapped on the Zobrist hash. Every entry is a pair of longs, the key xor-ed with the count and the
+ * count itself, so an entry torn by two threads writing at once fails the key check and no locking is needed.
+ * @version 1.0.
+ * @since 10-19-2026.
+ */
+public class ParallelPerft {
+	
+	// Declare and initialize constant member variables.
+	private static final int DEFAULT_ENTRIES = 1 << 22;
+	private static final int MIN_SPLIT_DEPTH = 4;
+	private static final long DEPTH_MIX = 0x9E3779B97F4A7C15L;
+	
+	// Declare member variables.
+	private final ForkJoinPool pool;
+	private final long[] entries;
+	private final int mask;
+	private final LongAdder hits;
+	
+	// Constructors.
+	public ParallelPerft() {
+		this(ForkJoinPool.commonPool(), DEFAULT_ENTRIES);
+	}
+	
+	/**
+	 * @param ForkJoinPool pool the pool the subtrees are counted in.
+	 * @param int numEntries the number of remembered counts, rounded up to a power of two.
+	 */
+	public ParallelPerft(final ForkJoinPool pool,
+							final int numEntries) {
+		final int size = Integer.highestOneBit(Math.max(1, numEntries - 1) << 1);
+		this.pool = pool;
+		this.entries = new long[2 * size];
+		this.mask = size - 1;
+		this.hits = new LongAdder();
+	}
+	
+	/**
+	 * Method that counts the positions reached after exactly the given number of legal moves.
+	 * @param Board board the position to count from.
+	 * @param int depth the number of plies.
+	 * @return long the number of leaf nodes.
+	 */
+	public long perft(final Board board, final int depth) {
+		return this.pool.invoke(new PerftTask(board, depth));
+	}
+	
+	/**
+	 * Method that counts the leaf nodes below every legal root move, all root moves at the same time.
+	 * @param Board board the position to count from.
+	 * @param int depth the number of plies, at least 1.
+	 * @return Map<String, Long> the leaf count per root move in coordinate notation, sorted by move.
+	 */
+	public Map<String, Long> divide(final Board board, final int depth) {
+		// Declare and initialize local variables.
+		final List<Move> moves = new ArrayList<>();
+		final List<PerftTask> tasks = new ArrayList<>();
+		for(final Move move : board.currentPlayer().getLegalMoves()) {
+			final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
+			if(moveTransition.getMoveStatus().isDone()) {
+				moves.add(move);
+				tasks.add(new PerftTask(moveTransition.getTransitionBoard(), depth - 1));
+			}
+		}
+		final Map<String, Long> nodesPerMove = new TreeMap<>();
+		this.pool.invoke(new RecursiveTask<Void>() {
+			private static final long serialVersionUID = 1L;
+			
+			@Override
+			protected Void compute() {
+				invokeAll(tasks);
+				return null;
+			}
+		});
+		for(int i = 0; i < moves.size(); i++) {
+			nodesPerMove.put(Perft.toCoordinateNotation(moves.get(i)), tasks.get(i).join());
+		}
+		return nodesPerMove;
+	}
+	
+	/**
+	 * Method that returns how often a count was found in the table.
+	 * @return long the number of table hits.
+	 */
+	public long getHits() {
+		return this.hits.sum();
+	}
+	
+	/**
+	 * Method that forgets all remembered counts.
+	 */
+	public void clear() {
+		Arrays.fill(this.entries, 0L);
+		this.hits.reset();
+	}
+	
+	/**
+	 * Helper method that counts a subtree on the current thread.
+	 */
+	private long count(final Board board, final int depth) {
+		if(depth == 0) {
+			return 1L;
+		}
+		if(depth == 1) {
+			return board.currentPlayer().countLegalMoves();
+		}
+		// Declare and initialize local variables.
+		final long key = board.getZobristHash() ^ (depth * DEPTH_MIX);
+		final long storedNodes = probe(key);
+		if(storedNodes >= 0) {
+			return storedNodes;
+		}
+		long nodes = 0L;
+		for(final Move move : board.currentPlayer().getLegalMoves()) {
+			final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
+			if(moveTransition.getMoveStatus().isDone()) {
+				nodes += count(moveTransition.getTransitionBoard(), depth - 1);
+			}
+		}
+		store(key, nodes);
+		return nodes;
+	}
+	
+	/**
+	 * Helper method that returns the remembered count of a key, or -1 if there is none.
+	 */
+	private long probe(final long key) {
+		// Declare and initialize local variables.
+		final int index = 2 * ((int) (key ^ (key >>> 32)) & this.mask);
+		final long nodes = this.entries[index + 1];
+		if((this.entries[index] ^ nodes) == key) {
+			this.hits.increment();
+			return nodes;
+		}
+		return -1L;
+	}
+	
+	private void store(final long key, final long nodes) {
+		// Declare and initialize local variables.
+		final int index = 2 * ((int) (key ^ (key >>> 32)) & this.mask);
+		this.entries[index] = key ^ nodes;
+		this.entries[index + 1] = nodes;
+	}
+	
+	/**
+	 * Nested class that counts a subtree, forking a task per move while the subtree is deep enough to be worth splitting.
+	 */
+	private final class PerftTask extends RecursiveTask<Long> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		// Declare member variables.
+		private final Board board;
+		private final int depth;
+		
+		// Constructor.
+		private PerftTask(final Board board, final int depth) {
+			this.board = board;
+			this.depth = depth;
+		}
+		
+		@Override
+		protected Long compute() {
+			if(this.depth < MIN_SPLIT_DEPTH) {
+				return count(this.board, this.depth);
+			}
+			// Declare and initialize local variables.
+			final long key = this.board.getZobristHash() ^ (this.depth * DEPTH_MIX);
+			final long storedNodes = probe(key);
+			if(storedNodes >= 0) {
+				return storedNodes;
+			}
+			final List<PerftTask> tasks = new ArrayList<>();
+			for(final Move move : this.board.currentPlayer().getLegalMoves()) {
+				final MoveTransition moveTransition = this.board.currentPlayer().makeMove(move);
+				if(moveTransition.getMoveStatus().isDone()) {
+					tasks.add(new PerftTask(moveTransition.getTransitionBoard(), this.depth - 1));
+				}
+			}
+			long nodes = 0L;
+			for(final PerftTask task : invokeAll(tasks)) {
+				nodes += task.join();
+			}
+			store(key, nodes);
+			return nodes;
+		}
+	}
+}
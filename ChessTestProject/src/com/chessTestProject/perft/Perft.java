@@ -0,0 +1,155 @@
+// User-defined package.
+package com.chessTestProject.perft;
+
+// Imported user-defined classes.
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.BoardUtils;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.player.MoveTransition;
+import com.chessTestProject.pgn.FenUtilities;
+
+// Imported built-in classes.
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Class that counts the leaf nodes of the legal move tree of a position (perft), to validate the move generators
+ * against known counts and to time them. Divide splits the count by root move, which narrows a wrong count down
+ * to the move that causes it when compared with another engine.
+ * @version 1.0.
+ * @since 10-19-2026.
+ */
+public class Perft {
+	
+	// Declare and initialize constant member variables.
+	private static final int DEFAULT_REFERENCE_DEPTH = 4;
+	
+	// Constructor.
+	private Perft() {
+		throw new RuntimeException("You cannot instantiate me!");
+	}
+	
+	/**
+	 * Method that counts the positions reached after exactly the given number of legal moves.
+	 * @param Board board the position to count from.
+	 * @param int depth the number of plies.
+	 * @return long the number of leaf nodes.
+	 */
+	public static long perft(final Board board, final int depth) {
+		if(depth == 0) {
+			return 1L;
+		}
+		// Declare and initialize local variables.
+		long nodes = 0L;
+		for(final Move move : board.currentPlayer().getLegalMoves()) {
+			final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
+			if(moveTransition.getMoveStatus().isDone()) {
+				nodes += perft(moveTransition.getTransitionBoard(), depth - 1);
+			}
+		}
+		return nodes;
+	}
+	
+	/**
+	 * Method that counts the leaf nodes below every legal root move.
+	 * @param Board board the position to count from.
+	 * @param int depth the number of plies, at least 1.
+	 * @return Map<String, Long> the leaf count per root move in coordinate notation, sorted by move.
+	 */
+	public static Map<String, Long> divide(final Board board, final int depth) {
+		// Declare and initialize local variables.
+		final Map<String, Long> nodesPerMove = new TreeMap<>();
+		for(final Move move : board.currentPlayer().getLegalMoves()) {
+			final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
+			if(moveTransition.getMoveStatus().isDone()) {
+				nodesPerMove.put(toCoordinateNotation(move), perft(moveTransition.getTransitionBoard(), depth - 1));
+			}
+		}
+		return nodesPerMove;
+	}
+	
+	/**
+	 * Method that writes a move as its start and destination tile, like e2e4, with a q for a promotion, like e7e8q.
+	 * @param Move move the move.
+	 * @return String the move in coordinate notation.
+	 */
+	public static String toCoordinateNotation(final Move move) {
+		return BoardUtils.getPositionAtCoordinate(move.getCurrentCoordinate()) + 
+				BoardUtils.getPositionAtCoordinate(move.getDestinationCoordinate()) +
+				(move instanceof Move.PawnPromotion ? "q" : "");
+	}
+	
+	/**
+	 * Method that runs perft from the command line, either as divide on a single position or on the reference positions.
+	 * A leading "parallel" counts with a ParallelPerft on all processors instead, for deep runs.
+	 * The reference run exits with status 1 when a count differs, so scheduled runs can fail on it.
+	 * @param String[] args optionally "parallel", then the depth and optionally a FEN, or "reference" and optionally the maximum depth.
+	 */
+	public static void main(final String[] args) {
+		// Declare and initialize local variables.
+		final boolean isParallel = args.length > 0 && args[0].equals("parallel");
+		final String[] options = isParallel ? Arrays.copyOfRange(args, 1, args.length) : args;
+		final ParallelPerft parallelPerft = isParallel ? new ParallelPerft() : null;
+		if(options.length < 1) {
+			System.out.println("Usage: Perft [parallel] depth [fen] | Perft [parallel] reference [maxDepth]");
+			return;
+		}
+		if(options[0].equals("reference")) {
+			if(!runReference(options.length > 1 ? Integer.parseInt(options[1]) : DEFAULT_REFERENCE_DEPTH, parallelPerft)) {
+				System.exit(1);
+			}
+			return;
+		}
+		final int depth = Integer.parseInt(options[0]);
+		final Board board = options.length > 1 ? FenUtilities.createGameFromFEN(String.join(" ", Arrays.copyOfRange(options, 1, options.length))) : 
+												Board.createStandardBoard();
+		final long start = System.nanoTime();
+		long nodes = 0L;
+		for(final Map.Entry<String, Long> entry : (isParallel ? parallelPerft.divide(board, depth) : divide(board, depth)).entrySet()) {
+			System.out.println(entry.getKey() + ": " + entry.getValue());
+			nodes += entry.getValue();
+		}
+		printTotal(nodes, System.nanoTime() - start);
+	}
+	
+	/**
+	 * Helper method that counts every reference position up to the given depth and compares the counts with the ones
+	 * expected of this engine, printing the standard count next to them where under-promotions make it differ.
+	 * The counts are made sequentially when no ParallelPerft is given.
+	 * @return boolean true if all counts are correct, false otherwise.
+	 */
+	private static boolean runReference(final int maxDepth, final ParallelPerft parallelPerft) {
+		// Declare and initialize local variables.
+		int failures = 0;
+		for(final PerftPosition position : PerftPosition.values()) {
+			final Board board = position.createBoard();
+			for(int depth = 1; depth <= Math.min(maxDepth, position.getMaxDepth()); depth++) {
+				final long start = System.nanoTime();
+				final long nodes = parallelPerft == null ? perft(board, depth) : parallelPerft.perft(board, depth);
+				final long time = System.nanoTime() - start;
+				final boolean isCorrect = nodes == position.getExpectedNodes(depth);
+				if(!isCorrect) {
+					failures++;
+				}
+				final long standardNodes = position.getStandardNodes(depth);
+				System.out.printf("%-10s depth %d: %12d nodes, expected %12d %s %10.0f nodes/s%s%n", position, depth, nodes, 
+						position.getExpectedNodes(depth), isCorrect ? "OK  " : "FAIL", nodesPerSecond(nodes, time),
+						standardNodes == position.getExpectedNodes(depth) ? "" : " (standard " + standardNodes + " with under-promotions)");
+			}
+		}
+		System.out.println(failures == 0 ? "All counts correct" : failures + " counts differ");
+		return failures == 0;
+	}
+	
+	/**
+	 * Helper method that prints the total number of nodes, the time taken and the speed.
+	 */
+	private static void printTotal(final long nodes, final long nanoseconds) {
+		System.out.printf("%nNodes: %d%nTime: %.3f s%nNodes/s: %.0f%n", nodes, nanoseconds / 1e9, nodesPerSecond(nodes, nanoseconds));
+	}
+	
+	private static double nodesPerSecond(final long nodes, final long nanoseconds) {
+		return nanoseconds == 0 ? 0 : nodes * 1e9 / nanoseconds;
+	}
+}
@@ -0,0 +1,93 @@
+// User-defined package.
+package com.chessTestProject.perft;
+
+// Imported user-defined classes.
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.pgn.FenUtilities;
+
+/**
+ * Enum of the standard perft reference positions with their known leaf counts per depth, starting at depth 1.
+ * The standard counts include under-promotions, which this engine does not generate; positions 4 and 5 have promotions
+ * from depth 1 or 2, Kiwipete from depth 4 and position 3 at depth 6, so there the engine counts fewer nodes.
+ * Every position therefore also holds the counts with queen promotions only, which the engine is checked against;
+ * they leave out the under-promotions and every position reached after one.
+ * @version 1.0.
+ * @since 10-19-2026.
+ */
+public enum PerftPosition {
+	
+	START("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+			new long[] {20L, 400L, 8902L, 197281L, 4865609L, 119060324L},
+			new long[] {20L, 400L, 8902L, 197281L, 4865609L, 119060324L}),
+	KIWIPETE("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+			new long[] {48L, 2039L, 97862L, 4085603L, 193690690L},
+			new long[] {48L, 2039L, 97862L, 4074224L, 193301718L}),
+	POSITION_3("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+			new long[] {14L, 191L, 2812L, 43238L, 674624L, 11030083L},
+			new long[] {14L, 191L, 2812L, 43238L, 674624L, 11024419L}),
+	POSITION_4("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+			new long[] {6L, 264L, 9467L, 422333L, 15833292L},
+			new long[] {6L, 228L, 8087L, 320802L, 11875685L}),
+	POSITION_5("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+			new long[] {44L, 1486L, 62379L, 2103487L, 89941194L},
+			new long[] {41L, 1373L, 54007L, 1806790L, 72590339L}),
+	POSITION_6("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+			new long[] {46L, 2079L, 89890L, 3894594L, 164075551L},
+			new long[] {46L, 2079L, 89890L, 3894594L, 164075551L});
+	
+	// Declare member variables.
+	private final String fen;
+	private final long[] standardNodes;
+	private final long[] expectedNodes;
+	
+	// Constructor.
+	PerftPosition(final String fen,
+					final long[] standardNodes,
+					final long[] expectedNodes) {
+		this.fen = fen;
+		this.standardNodes = standardNodes;
+		this.expectedNodes = expectedNodes;
+	}
+	
+	/**
+	 * Method that returns the position in Forsyth-Edwards Notation.
+	 * @return String the FEN of the position.
+	 */
+	public String getFen() {
+		return this.fen;
+	}
+	
+	/**
+	 * Method that returns the deepest depth of which the leaf count is known.
+	 * @return int the maximum depth.
+	 */
+	public int getMaxDepth() {
+		return this.expectedNodes.length;
+	}
+	
+	/**
+	 * Method that returns the leaf count this engine must reach at the given depth, with queen promotions only.
+	 * @param int depth a depth from 1 up to the maximum depth.
+	 * @return long the number of leaf nodes.
+	 */
+	public long getExpectedNodes(final int depth) {
+		return this.expectedNodes[depth - 1];
+	}
+	
+	/**
+	 * Method that returns the published leaf count at the given depth, including under-promotions.
+	 * @param int depth a depth from 1 up to the maximum depth.
+	 * @return long the number of leaf nodes.
+	 */
+	public long getStandardNodes(final int depth) {
+		return this.standardNodes[depth - 1];
+	}
+	
+	/**
+	 * Method that creates the board of the position.
+	 * @return Board the board of the position.
+	 */
+	public Board createBoard() {
+		return FenUtilities.createGameFromFEN(this.fen);
+	}
+}
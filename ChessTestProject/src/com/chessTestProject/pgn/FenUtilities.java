@@ -0,0 +1,134 @@
+// User-defined package.
+package com.chessTestProject.pgn;
+
+// Imported user-defined classes.
+import com.chessTestProject.engine.Alliance;
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.BoardUtils;
+import com.chessTestProject.engine.pieces.Bishop;
+import com.chessTestProject.engine.pieces.King;
+import com.chessTestProject.engine.pieces.Knight;
+import com.chessTestProject.engine.pieces.Pawn;
+import com.chessTestProject.engine.pieces.Queen;
+import com.chessTestProject.engine.pieces.Rook;
+
+/**
+ * Class that creates boards from positions written in Forsyth-Edwards Notation (FEN).
+ * Castling rights are expressed the way this engine stores them: a king or rook that may still castle has not moved yet.
+ * @version 1.0.
+ * @since 10-19-2026.
+ */
+public class FenUtilities {
+	
+	// Constructor.
+	private FenUtilities() {
+		throw new RuntimeException("You cannot instantiate me!");
+	}
+	
+	/**
+	 * Method that creates a board from a FEN string. Only the piece placement, the player to move, the castling rights
+	 * and the en passant tile are read; the move counters are ignored.
+	 * @param String fenString the position in Forsyth-Edwards Notation.
+	 * @return Board the board of the position.
+	 */
+	public static Board createGameFromFEN(final String fenString) {
+		// Declare and initialize local variables.
+		final String[] fenPartitions = fenString.trim().split("\\s+");
+		if(fenPartitions.length < 2) {
+			throw new RuntimeException("Invalid FEN string: " + fenString);
+		}
+		final String castling = fenPartitions.length > 2 ? fenPartitions[2] : "-";
+		final Alliance moveMaker = moveMaker(fenPartitions[1]);
+		final Board.Builder builder = new Board.Builder();
+		Pawn enPassantPawn = null;
+		final int enPassantPawnPosition = fenPartitions.length > 3 && !fenPartitions[3].equals("-") ?
+				BoardUtils.getCoordinateAtPosition(fenPartitions[3]) + (moveMaker.isWhite() ? BoardUtils.NUM_TILES_PER_ROW : -BoardUtils.NUM_TILES_PER_ROW) : -1;
+		
+		int i = 0;
+		for(final char c : fenPartitions[0].toCharArray()) {
+			if(c == '/') {
+				continue;
+			}
+			if(Character.isDigit(c)) {
+				i += c - '0';
+				continue;
+			}
+			if(i >= BoardUtils.NUM_TILES) {
+				throw new RuntimeException("Invalid FEN string: " + fenString);
+			}
+			final Alliance alliance = Character.isUpperCase(c) ? Alliance.WHITE : Alliance.BLACK;
+			switch(Character.toLowerCase(c)) {
+				case 'p':
+					final Pawn pawn = new Pawn(alliance, i, isPawnOnStartRank(alliance, i));
+					builder.setPiece(pawn);
+					if(i == enPassantPawnPosition) {
+						enPassantPawn = pawn;
+					}
+					break;
+				case 'n':
+					builder.setPiece(new Knight(alliance, i));
+					break;
+				case 'b':
+					builder.setPiece(new Bishop(alliance, i));
+					break;
+				case 'r':
+					builder.setPiece(new Rook(alliance, i, canRookCastle(castling, alliance, i)));
+					break;
+				case 'q':
+					builder.setPiece(new Queen(alliance, i));
+					break;
+				case 'k':
+					builder.setPiece(new King(alliance, i, canKingCastle(castling, alliance)));
+					break;
+				default:
+					throw new RuntimeException("Invalid FEN string: " + fenString);
+			}
+			i++;
+		}
+		if(i != BoardUtils.NUM_TILES) {
+			throw new RuntimeException("Invalid FEN string: " + fenString);
+		}
+		builder.setMoveMaker(moveMaker);
+		builder.setEnPassantPawn(enPassantPawn);
+		return builder.build();
+	}
+	
+	/**
+	 * Helper method that returns the alliance that has to make the next move.
+	 * @param String moveMakerString "w" or "b".
+	 * @return Alliance the alliance to move.
+	 */
+	private static Alliance moveMaker(final String moveMakerString) {
+		if(moveMakerString.equals("w")) {
+			return Alliance.WHITE;
+		} else if(moveMakerString.equals("b")) {
+			return Alliance.BLACK;
+		}
+		throw new RuntimeException("Invalid FEN player to move: " + moveMakerString);
+	}
+	
+	/**
+	 * Helper method that checks if a pawn still stands on the rank it started on, so it may still jump two tiles.
+	 */
+	private static boolean isPawnOnStartRank(final Alliance alliance, final int position) {
+		return alliance.isWhite() ? BoardUtils.SECOND_RANK[position] : BoardUtils.SEVENTH_RANK[position];
+	}
+	
+	/**
+	 * Helper method that checks if the king of the given alliance still has any castling right.
+	 */
+	private static boolean canKingCastle(final String castling, final Alliance alliance) {
+		return alliance.isWhite() ? castling.contains("K") || castling.contains("Q") : 
+									castling.contains("k") || castling.contains("q");
+	}
+	
+	/**
+	 * Helper method that checks if the rook on the given corner tile still has its castling right.
+	 */
+	private static boolean canRookCastle(final String castling, final Alliance alliance, final int position) {
+		if(alliance.isWhite()) {
+			return (position == 63 && castling.contains("K")) || (position == 56 && castling.contains("Q"));
+		}
+		return (position == 7 && castling.contains("k")) || (position == 0 && castling.contains("q"));
+	}
+}
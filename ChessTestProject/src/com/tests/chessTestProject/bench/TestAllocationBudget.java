@@ -0,0 +1,46 @@
+package com.tests.chessTestProject.bench;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.chessTestProject.bench.AllocationProfiler;
+import com.chessTestProject.engine.player.ai.MiniMax;
+
+public class TestAllocationBudget {
+	
+	private static final String BUDGET_FILE = "allocation_budget.properties";
+	private static final int DEPTH = 2;
+
+	@Test
+	public void bytesPerNode() throws IOException {
+		Assume.assumeTrue(AllocationProfiler.isSupported());
+		assertWithinBudget("bytesPerNode", AllocationProfiler.bytesPerNode(() -> MiniMax.createStandardEngine(DEPTH)));
+	}
+	
+	@Test
+	public void bytesPerExecute() throws IOException {
+		Assume.assumeTrue(AllocationProfiler.isSupported());
+		assertWithinBudget("bytesPerExecute", AllocationProfiler.bytesPerExecute());
+	}
+	
+	@Test
+	public void bytesPerMakeMove() throws IOException {
+		Assume.assumeTrue(AllocationProfiler.isSupported());
+		assertWithinBudget("bytesPerMakeMove", AllocationProfiler.bytesPerMakeMove());
+	}
+	
+	private static void assertWithinBudget(final String key, final double bytes) throws IOException {
+		final Properties budgets = new Properties();
+		try(final InputStream input = TestAllocationBudget.class.getResourceAsStream(BUDGET_FILE)) {
+			budgets.load(input);
+		}
+		final double budget = Double.parseDouble(budgets.getProperty(key));
+		assertTrue(String.format("%s is %.0f bytes, over the budget of %.0f", key, bytes, budget), bytes <= budget);
+	}
+}
@@ -0,0 +1,16 @@
+package com.tests.chessTestProject.bench;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.chessTestProject.bench.Bench;
+import com.chessTestProject.engine.player.ai.MiniMax;
+
+public class TestBench {
+
+	@Test
+	public void signatureIsUnchanged() {
+		assertEquals(Bench.EXPECTED_NODES, Bench.run(MiniMax.createStandardEngine(Bench.DEFAULT_DEPTH)));
+	}
+}
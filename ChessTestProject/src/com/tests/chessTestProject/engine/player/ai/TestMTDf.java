@@ -0,0 +1,36 @@
+package com.tests.chessTestProject.engine.player.ai;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.player.ai.MTDf;
+import com.chessTestProject.engine.player.ai.MiniMax;
+import com.chessTestProject.pgn.FenUtilities;
+
+public class TestMTDf {
+	
+	private static final int DEPTH = 3;
+	private static final String[] POSITIONS = {
+		"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+		"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+		"r1bq1rk1/ppp1nppp/4n3/3p3Q/3P4/1BP1B3/PP1N2PP/R4RK1 w - - 1 16",
+		"2rqkb1r/ppp2p2/2npb1p1/1N1Nn2p/2P1PP2/8/PP2B1PP/R1BQK2R b KQ - 0 11",
+		"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+		"8/pp2r1k1/2p1p3/3pP2p/1P1P1P1P/P5KR/8/8 w - - 0 1"
+	};
+
+	@Test
+	public void sameScoresAsMiniMax() {
+		for(final String fen : POSITIONS) {
+			final Board board = FenUtilities.createGameFromFEN(fen);
+			final MTDf mtdf = new MTDf(DEPTH);
+			mtdf.execute(board);
+			final MiniMax miniMax = new MiniMax(DEPTH);
+			final int miniMaxScore = board.currentPlayer().getAlliance().isWhite() ? 
+					miniMax.max(board, DEPTH) : miniMax.min(board, DEPTH);
+			assertEquals(fen, miniMaxScore, mtdf.getScore());
+		}
+	}
+}
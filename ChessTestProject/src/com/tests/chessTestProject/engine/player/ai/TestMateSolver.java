@@ -0,0 +1,69 @@
+package com.tests.chessTestProject.engine.player.ai;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.player.MoveTransition;
+import com.chessTestProject.engine.player.ai.MateResult;
+import com.chessTestProject.engine.player.ai.MateSolver;
+import com.chessTestProject.pgn.FenUtilities;
+
+public class TestMateSolver {
+	
+	private static final int MAX_NODES = 100000;
+	private static final int MAX_MOVES = 4;
+
+	@Test
+	public void backRankMateInOne() {
+		assertMate("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1", 1);
+		assertMate("r5k1/8/8/8/8/8/5PPP/6K1 b - - 0 1", 1);
+	}
+	
+	@Test
+	public void queenSacrificeMateInTwo() {
+		// Qd8+ Bxd8 Re8#.
+		assertMate("r1b2k1r/ppp1bppp/8/1B1Q4/5q2/2P5/PPP2PPP/R3R1K1 w - - 1 1", 2);
+	}
+	
+	@Test
+	public void retiTartakowerMateInThree() {
+		// Qd8+ Kxd8 Bg5+ and Bd8# or Rd8#.
+		assertMate("rnb1kb1r/pp3ppp/2p5/4q3/4n3/3Q4/PPPB1PPP/2KR1BNR w kq - 0 1", 3);
+	}
+	
+	@Test
+	public void noMateInTheStartPosition() {
+		final MateResult mateResult = new MateSolver(MAX_NODES).solve(Board.createStandardBoard(), MAX_MOVES);
+		assertFalse(mateResult.isMate());
+		assertNull(mateResult.getMove());
+	}
+	
+	@Test
+	public void defendedPiecesAreAttacked() {
+		// The king cannot take the knight on b7, which the white king defends, so only a7 and b8 are left.
+		assertTrue(MateSolver.isForcingPosition(FenUtilities.createGameFromFEN("k7/1N6/2K5/8/8/8/8/8 w - - 0 1")));
+	}
+	
+	@Test
+	public void pawnPushesAreNotAttacks() {
+		// The pawns attack e7 but not d7 and f7, so f8, d7 and f7 are left.
+		assertFalse(MateSolver.isForcingPosition(FenUtilities.createGameFromFEN("4k3/8/3P1P2/B7/8/8/8/7K w - - 0 1")));
+	}
+	
+	private static void assertMate(final String fen, final int mateIn) {
+		Board board = FenUtilities.createGameFromFEN(fen);
+		final MateResult mateResult = new MateSolver(MAX_NODES).solve(board, MAX_MOVES);
+		assertTrue(fen, mateResult.isMate());
+		assertEquals(fen, mateIn, mateResult.getMateIn());
+		assertEquals(fen, 2 * mateIn - 1, mateResult.getLine().size());
+		for(final Move move : mateResult.getLine()) {
+			final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
+			assertTrue(fen + ": " + move, moveTransition.getMoveStatus().isDone());
+			board = moveTransition.getTransitionBoard();
+		}
+		assertTrue(fen, board.currentPlayer().isInCheckMate());
+	}
+}
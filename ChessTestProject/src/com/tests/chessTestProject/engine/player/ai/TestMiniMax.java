@@ -0,0 +1,44 @@
+package com.tests.chessTestProject.engine.player.ai;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.player.ai.MiniMax;
+import com.chessTestProject.engine.player.ai.SearchStatistics;
+import com.chessTestProject.pgn.FenUtilities;
+
+public class TestMiniMax {
+	
+	private static final int DEPTH = 3;
+	private static final String[] POSITIONS = {
+		"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+		"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+		"2rqkb1r/ppp2p2/2npb1p1/1N1Nn2p/2P1PP2/8/PP2B1PP/R1BQK2R b KQ - 0 11"
+	};
+
+	@Test
+	public void searchStatisticsAddUp() {
+		for(final String fen : POSITIONS) {
+			final Board board = FenUtilities.createGameFromFEN(fen);
+			final MiniMax miniMax = new MiniMax(DEPTH);
+			final SearchStatistics statistics = miniMax.search(board).getSearchStatistics();
+			final long[] nodesPerPly = statistics.getNodesPerPly();
+			assertEquals(fen, 1L, nodesPerPly[0]);
+			long nodes = 0L;
+			for(final long plyNodes : nodesPerPly) {
+				nodes += plyNodes;
+			}
+			assertEquals(fen, nodes, statistics.getNodes());
+			assertEquals(fen, statistics.getNodes(), miniMax.getNumNodes());
+			assertRate(fen, statistics.getFirstMoveCutoffRate());
+			assertRate(fen, statistics.getTranspositionHitRate());
+			assertRate(fen, statistics.getLeafNodeShare());
+		}
+	}
+	
+	private static void assertRate(final String fen, final double rate) {
+		assertTrue(fen + ": " + rate, rate >= 0.0 && rate <= 1.0);
+	}
+}
@@ -0,0 +1,65 @@
+package com.tests.chessTestProject.engine.player.ai;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.player.MoveTransition;
+import com.chessTestProject.engine.player.ai.MonteCarloTreeSearch;
+import com.chessTestProject.engine.player.ai.SearchResult;
+import com.chessTestProject.pgn.FenUtilities;
+
+public class TestMonteCarloTreeSearch {
+	
+	private static final long THINK_TIME_MILLIS = 500;
+	private static final int NUM_THREADS = 4;
+	private static final int SMALL_TREE = 1000;
+	private static final int MAX_LEGAL_MOVES = 218;
+	private static final String MIDDLEGAME = "r1bq1rk1/ppp1nppp/4n3/3p3Q/3P4/1BP1B3/PP1N2PP/R4RK1 w - - 1 16";
+	private static final String BACK_RANK_MATE = "6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1";
+
+	@Test
+	public void legalMoveOnOneThread() {
+		assertLegalMove(new MonteCarloTreeSearch(THINK_TIME_MILLIS, 1));
+	}
+	
+	@Test
+	public void legalMoveOnManyThreads() {
+		assertLegalMove(new MonteCarloTreeSearch(THINK_TIME_MILLIS, NUM_THREADS));
+	}
+	
+	@Test
+	public void matesInOne() {
+		final Board board = FenUtilities.createGameFromFEN(BACK_RANK_MATE);
+		final Move move = new MonteCarloTreeSearch(THINK_TIME_MILLIS, NUM_THREADS).execute(board);
+		assertTrue(board.currentPlayer().makeMove(move).getTransitionBoard().currentPlayer().isInCheckMate());
+	}
+	
+	@Test
+	public void nodeCountStaysWithinCapacity() {
+		// A small tree fills up long before the think time is over, and the search goes on with rollouts.
+		// Full means no room is left for the children of another node.
+		final MonteCarloTreeSearch monteCarloTreeSearch = new MonteCarloTreeSearch(THINK_TIME_MILLIS, NUM_THREADS, SMALL_TREE);
+		final Board board = FenUtilities.createGameFromFEN(MIDDLEGAME);
+		for(int search = 0; search < 2; search++) {
+			assertNotNull(monteCarloTreeSearch.execute(board));
+			assertTrue(monteCarloTreeSearch.getNumNodes() <= SMALL_TREE);
+			assertTrue(monteCarloTreeSearch.getNumNodes() > SMALL_TREE - MAX_LEGAL_MOVES);
+		}
+	}
+	
+	private static void assertLegalMove(final MonteCarloTreeSearch monteCarloTreeSearch) {
+		final Board board = FenUtilities.createGameFromFEN(MIDDLEGAME);
+		final SearchResult searchResult = monteCarloTreeSearch.search(board);
+		final Move move = searchResult.getBestMove();
+		assertNotNull(move);
+		assertTrue(board.currentPlayer().getLegalMoves().contains(move));
+		final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
+		assertTrue(moveTransition.getMoveStatus().isDone());
+		// Every rollout starts at the root, and every worker counted its own.
+		assertEquals(monteCarloTreeSearch.getNumRollouts(), searchResult.getSearchStatistics().getNodesPerPly()[0]);
+		assertTrue(monteCarloTreeSearch.getNumNodes() <= monteCarloTreeSearch.getMaxNodes());
+	}
+}
@@ -0,0 +1,128 @@
+package com.tests.chessTestProject.engine.player.ai;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.player.MoveTransition;
+import com.chessTestProject.engine.player.ai.NnueBoardEvaluator;
+import com.chessTestProject.engine.player.ai.NnueNetwork;
+
+public class TestNnue {
+	
+	private static final int MAGIC = 0x45554E4E;
+	private static final int VERSION = 1;
+	private static final int NUM_FEATURES = 64 * 10 * 64;
+	private static final int ACCUMULATOR_SIZE = 16;
+	private static final int HIDDEN_SIZE = 8;
+	private static final int MAX_PLIES = 200;
+	private static final int NUM_DOT_PRODUCTS = 1000;
+	private static final String PACKAGE = "com.chessTestProject.engine.player.ai.";
+
+	@Test
+	public void incrementalMatchesFullEvaluation() throws IOException {
+		final NnueNetwork network = NnueNetwork.load(writeRandomWeights(new Random(1)));
+		// Cross-checking compares every accumulator with one built from scratch and throws when they differ.
+		final NnueBoardEvaluator evaluator = new NnueBoardEvaluator(network, true);
+		final NnueBoardEvaluator fullEvaluator = new NnueBoardEvaluator(network, false);
+		final Random random = new Random(2);
+		Board board = Board.createStandardBoard();
+		for(int ply = 0; ply < MAX_PLIES; ply++) {
+			final List<Move> moves = new ArrayList<>();
+			final List<MoveTransition> transitions = new ArrayList<>();
+			for(final Move move : board.currentPlayer().getLegalMoves()) {
+				final MoveTransition transition = board.currentPlayer().makeMove(move);
+				if(transition.getMoveStatus().isDone()) {
+					evaluator.makeMove(move, transition.getTransitionBoard());
+					assertEquals(move.toString(), fullEvaluator.evaluate(transition.getTransitionBoard(), 0), 
+									evaluator.evaluate(transition.getTransitionBoard(), 0));
+					evaluator.unmakeMove();
+					moves.add(move);
+					transitions.add(transition);
+				}
+			}
+			if(moves.isEmpty()) {
+				break;
+			}
+			final int choice = random.nextInt(moves.size());
+			board = transitions.get(choice).getTransitionBoard();
+			evaluator.makeMove(moves.get(choice), board);
+		}
+	}
+	
+	@Test
+	public void vectorKernelMatchesScalarKernel() throws ReflectiveOperationException {
+		Assume.assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+		final Object scalar = newKernel("NnueKernel$Scalar");
+		final Object vector = newKernel("VectorNnueKernel");
+		final Method dot = Class.forName(PACKAGE + "NnueKernel")
+				.getDeclaredMethod("dot", short[].class, int.class, short[].class, int.class, int.class);
+		dot.setAccessible(true);
+		final Random random = new Random(3);
+		for(int i = 0; i < NUM_DOT_PRODUCTS; i++) {
+			final int length = random.nextInt(2 * ACCUMULATOR_SIZE * HIDDEN_SIZE);
+			final short[] input = randomShorts(random, length + random.nextInt(16));
+			final short[] weights = randomShorts(random, length + random.nextInt(16));
+			final int inputOffset = random.nextInt(input.length - length + 1);
+			final int weightOffset = random.nextInt(weights.length - length + 1);
+			assertEquals(dot.invoke(scalar, input, inputOffset, weights, weightOffset, length), 
+							dot.invoke(vector, input, inputOffset, weights, weightOffset, length));
+		}
+	}
+	
+	/**
+	 * Writes a network with small random weights in the format NnueNetwork reads and returns its path.
+	 */
+	private static String writeRandomWeights(final Random random) throws IOException {
+		final File file = File.createTempFile("nnue", ".bin");
+		file.deleteOnExit();
+		final ByteBuffer buffer = ByteBuffer.allocate(4 * Integer.BYTES + 
+				Short.BYTES * (ACCUMULATOR_SIZE + NUM_FEATURES * ACCUMULATOR_SIZE) + 
+				Integer.BYTES * HIDDEN_SIZE + Short.BYTES * HIDDEN_SIZE * 2 * ACCUMULATOR_SIZE + 
+				Integer.BYTES + Short.BYTES * HIDDEN_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(MAGIC).putInt(VERSION).putInt(ACCUMULATOR_SIZE).putInt(HIDDEN_SIZE);
+		for(int i = 0; i < ACCUMULATOR_SIZE + NUM_FEATURES * ACCUMULATOR_SIZE; i++) {
+			buffer.putShort((short) (random.nextInt(64) - 16));
+		}
+		for(int i = 0; i < HIDDEN_SIZE; i++) {
+			buffer.putInt(random.nextInt(1024) - 512);
+		}
+		for(int i = 0; i < HIDDEN_SIZE * 2 * ACCUMULATOR_SIZE; i++) {
+			buffer.putShort((short) (random.nextInt(128) - 64));
+		}
+		buffer.putInt(random.nextInt(256) - 128);
+		for(int i = 0; i < HIDDEN_SIZE; i++) {
+			buffer.putShort((short) (random.nextInt(256) - 128));
+		}
+		Files.write(file.toPath(), buffer.array());
+		return file.getPath();
+	}
+	
+	private static Object newKernel(final String name) throws ReflectiveOperationException {
+		final Constructor<?> constructor = Class.forName(PACKAGE + name).getDeclaredConstructor();
+		constructor.setAccessible(true);
+		return constructor.newInstance();
+	}
+	
+	private static short[] randomShorts(final Random random, final int length) {
+		final short[] values = new short[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = (short) random.nextInt(1 << 16);
+		}
+		return values;
+	}
+}
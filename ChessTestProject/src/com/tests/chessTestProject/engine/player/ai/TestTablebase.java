@@ -0,0 +1,107 @@
+package com.tests.chessTestProject.engine.player.ai;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.engine.board.Move;
+import com.chessTestProject.engine.player.ai.MiniMax;
+import com.chessTestProject.engine.player.ai.StandardBoardEvaluator;
+import com.chessTestProject.engine.player.ai.Tablebase;
+import com.chessTestProject.engine.player.ai.TablebaseGenerator;
+import com.chessTestProject.pgn.FenUtilities;
+
+public class TestTablebase {
+	
+	// The longest wins, in plies: mate in 10 with king and queen and mate in 16 with king and rook.
+	private static final int KQK_LONGEST_MATE = 19;
+	private static final int KRK_LONGEST_MATE = 31;
+	private static final String[] POSITIONS = {
+		"8/8/8/4k3/8/8/8/R3K3 w - - 0 1",
+		"8/8/8/4k3/8/8/8/R3K3 b - - 0 1",
+		"7k/8/6K1/8/8/8/8/3R4 w - - 0 1",
+		"8/8/3k4/8/8/2K5/8/6Q1 b - - 0 1",
+		"k7/8/1K6/8/8/8/8/6Q1 w - - 0 1"
+	};
+
+	@Test
+	public void longestMates() {
+		final TablebaseGenerator generator = new TablebaseGenerator();
+		assertEquals(KQK_LONGEST_MATE, longestMate(generator.generate("KQK")));
+		assertEquals(KRK_LONGEST_MATE, longestMate(generator.generate("KRK")));
+	}
+	
+	@Test
+	public void mirroredPositionsScoreTheSame() throws IOException {
+		final Tablebase tablebase = createTablebase();
+		for(final String fen : POSITIONS) {
+			final int score = tablebase.probe(FenUtilities.createGameFromFEN(fen));
+			assertTrue(fen, score != Tablebase.NOT_FOUND && score != 0);
+			// Scores are from white's point of view, which the mirror turns around.
+			assertEquals(fen, -score, tablebase.probe(FenUtilities.createGameFromFEN(mirror(fen))));
+		}
+	}
+	
+	@Test
+	public void miniMaxMatesWithTheRook() throws IOException {
+		final Tablebase tablebase = createTablebase();
+		final MiniMax miniMax = new MiniMax(2, new StandardBoardEvaluator(), tablebase);
+		Board board = FenUtilities.createGameFromFEN(POSITIONS[0]);
+		// A won score is the tablebase win minus the plies to mate, both sides playing their best.
+		final int pliesToMate = Tablebase.TABLEBASE_WIN - tablebase.probe(board);
+		for(int ply = 0; ply < pliesToMate; ply++) {
+			final Move move = miniMax.execute(board);
+			board = board.currentPlayer().makeMove(move).getTransitionBoard();
+		}
+		assertTrue(board.currentPlayer().isInCheckMate());
+	}
+	
+	private static Tablebase createTablebase() throws IOException {
+		final File directory = Files.createTempDirectory("tablebases").toFile();
+		directory.deleteOnExit();
+		final TablebaseGenerator generator = new TablebaseGenerator();
+		generator.generate("KQK");
+		generator.generate("KRK");
+		generator.write(directory.getPath());
+		for(final File file : directory.listFiles()) {
+			file.deleteOnExit();
+		}
+		return new Tablebase(directory.getPath());
+	}
+	
+	private static int longestMate(final byte[] table) {
+		int longestMate = 0;
+		for(final byte entry : table) {
+			// An odd number of plies is a win for the side to move.
+			final int plies = (entry & 0xFF) - 1;
+			if(plies % 2 == 1) {
+				longestMate = Math.max(longestMate, plies);
+			}
+		}
+		return longestMate;
+	}
+	
+	/**
+	 * Swaps the colours of a position without castling or en passant: the ranks are reversed and the side to move changes.
+	 */
+	private static String mirror(final String fen) {
+		final String[] fields = fen.split(" ");
+		final String[] ranks = fields[0].split("/");
+		final StringBuilder placement = new StringBuilder();
+		for(int rank = ranks.length - 1; rank >= 0; rank--) {
+			for(final char c : ranks[rank].toCharArray()) {
+				placement.append(Character.isUpperCase(c) ? Character.toLowerCase(c) : Character.toUpperCase(c));
+			}
+			if(rank > 0) {
+				placement.append('/');
+			}
+		}
+		return placement + (fields[1].equals("w") ? " b " : " w ") + String.join(" ", Arrays.copyOfRange(fields, 2, fields.length));
+	}
+}
@@ -0,0 +1,69 @@
+package com.tests.chessTestProject.perft;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.chessTestProject.engine.board.Board;
+import com.chessTestProject.perft.ParallelPerft;
+import com.chessTestProject.perft.Perft;
+import com.chessTestProject.perft.PerftPosition;
+
+public class TestPerft {
+
+	@Test
+	public void startPosition() {
+		final Board board = PerftPosition.START.createBoard();
+		for(int depth = 1; depth <= 3; depth++) {
+			assertEquals(PerftPosition.START.getExpectedNodes(depth), Perft.perft(board, depth));
+		}
+	}
+	
+	@Test
+	public void kiwipete() {
+		// Depth 3 castles after king and rook moves and through check, which the generators got wrong before.
+		final Board board = PerftPosition.KIWIPETE.createBoard();
+		for(int depth = 1; depth <= 3; depth++) {
+			assertEquals(PerftPosition.KIWIPETE.getExpectedNodes(depth), Perft.perft(board, depth));
+		}
+	}
+	
+	@Test
+	public void enPassantAndPins() {
+		final Board board = PerftPosition.POSITION_3.createBoard();
+		for(int depth = 1; depth <= 4; depth++) {
+			assertEquals(PerftPosition.POSITION_3.getExpectedNodes(depth), Perft.perft(board, depth));
+		}
+	}
+	
+	@Test
+	public void queenPromotionsOnly() {
+		// Positions 4 and 5 promote from depth 1 and 2; the engine only promotes to a queen.
+		for(final PerftPosition position : new PerftPosition[] {PerftPosition.POSITION_4, PerftPosition.POSITION_5}) {
+			final Board board = position.createBoard();
+			for(int depth = 1; depth <= 3; depth++) {
+				assertEquals(position.getExpectedNodes(depth), Perft.perft(board, depth));
+			}
+		}
+	}
+	
+	@Test
+	public void divideAddsUpToPerft() {
+		final Board board = PerftPosition.POSITION_6.createBoard();
+		final Map<String, Long> nodesPerMove = Perft.divide(board, 2);
+		assertEquals(PerftPosition.POSITION_6.getExpectedNodes(1), nodesPerMove.size());
+		assertEquals(PerftPosition.POSITION_6.getExpectedNodes(2), nodesPerMove.values().stream().mapToLong(Long::longValue).sum());
+	}
+	
+	@Test
+	public void parallelMatchesSequential() {
+		// Kiwipete transposes early, so the shared table and the bulk count at the last ply are both exercised.
+		final ParallelPerft parallelPerft = new ParallelPerft();
+		final Board board = PerftPosition.KIWIPETE.createBoard();
+		assertEquals(PerftPosition.KIWIPETE.getExpectedNodes(3), parallelPerft.perft(board, 3));
+		assertEquals(Perft.divide(board, 3), parallelPerft.divide(board, 3));
+		assertEquals(PerftPosition.START.getExpectedNodes(4), parallelPerft.perft(PerftPosition.START.createBoard(), 4));
+	}
+}
\ No newline at end of file